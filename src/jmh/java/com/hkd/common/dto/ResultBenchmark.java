@@ -0,0 +1,51 @@
+package com.hkd.common.dto;
+
+import com.hkd.common.exception.ErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result 工厂方法与常量响应的分配率对比
+ *
+ * 配合GC profiler查看 gc.alloc.rate.norm（每次调用分配的字节数）:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResultBenchmark -prof gc"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultBenchmark {
+
+    @Benchmark
+    public Result<Object> successFactory() {
+        return Result.success();
+    }
+
+    @Benchmark
+    public Result<Object> successConstant() {
+        return Result.of(ErrorCode.SUCCESS);
+    }
+
+    @Benchmark
+    public Result<Object> errorFactory() {
+        return Result.error(ErrorCode.TOO_MANY_REQUESTS.getCode(), ErrorCode.TOO_MANY_REQUESTS.getMessage());
+    }
+
+    @Benchmark
+    public Result<Object> errorConstant() {
+        return Result.of(ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hkd.common.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 枚举按代码查找对比: values()线性扫描 / 稠密数组索引
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+    private int[] codes;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        OrderType[] types = OrderType.values();
+        codes = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            codes[i] = types[i].getCode();
+        }
+    }
+
+    private int nextCode() {
+        int i = cursor + 1;
+        if (i == codes.length) {
+            i = 0;
+        }
+        cursor = i;
+        return codes[i];
+    }
+
+    @Benchmark
+    public OrderType linearScan() {
+        int code = nextCode();
+        for (OrderType type : OrderType.values()) {
+            if (type.getCode() == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid OrderType code: " + code);
+    }
+
+    @Benchmark
+    public OrderType indexed() {
+        return OrderType.fromCode(nextCode());
+    }
+}
@@ -0,0 +1,77 @@
+package com.hkd.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拒绝风暴下的异常吞吐对比: 普通异常（采集堆栈） / 无堆栈异常 / 缓存单例
+ *
+ * 在depth层调用栈深处抛出、在顶层捕获,模拟经过Controller/Service/风控校验多层调用后的拒绝;
+ * 普通异常的开销随栈深线性增长。配合GC profiler查看每次拒绝的分配量:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BusinessExceptionBenchmark -prof gc"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    @Param({"20", "80"})
+    private int depth;
+
+    @Benchmark
+    public int withStackTrace() {
+        try {
+            return reject(depth, 0);
+        } catch (BusinessException e) {
+            return e.getCode();
+        }
+    }
+
+    @Benchmark
+    public int stackless() {
+        try {
+            return reject(depth, 1);
+        } catch (BusinessException e) {
+            return e.getCode();
+        }
+    }
+
+    @Benchmark
+    public int cachedSingleton() {
+        try {
+            return reject(depth, 2);
+        } catch (BusinessException e) {
+            return e.getCode();
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static int reject(int depth, int mode) {
+        if (depth > 0) {
+            return reject(depth - 1, mode) + 1;
+        }
+        throw switch (mode) {
+            case 0 -> new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+            case 1 -> BusinessException.stackless(ErrorCode.INSUFFICIENT_BALANCE);
+            default -> BusinessException.of(ErrorCode.INSUFFICIENT_BALANCE);
+        };
+    }
+}
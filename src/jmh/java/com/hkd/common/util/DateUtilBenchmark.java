@@ -0,0 +1,133 @@
+package com.hkd.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil 耗时与分配对比: 格式化/解析（每次编译格式 / 缓存格式 / JDK格式化器 / 定长直写直读）,
+ * 以及按毫秒时间戳计算香港时间当天开始（LocalDateTime转换 / long运算）
+ *
+ * 配合GC profiler查看每次调用的分配量:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="DateUtilBenchmark -prof gc"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateUtilBenchmark {
+
+    private static final String AUDIT_PATTERN = "yyyy/MM/dd HH:mm:ss.SSS";
+
+    private LocalDateTime dateTime;
+    private char[] chars;
+    private byte[] bytes;
+    private String text;
+    private byte[] textBytes;
+    private long timestamp;
+
+    @Setup
+    public void setup() {
+        dateTime = LocalDateTime.of(2024, 3, 15, 9, 30, 45, 123_000_000);
+        chars = new char[FixedDateTimeFormat.DATETIME.width()];
+        bytes = new byte[FixedDateTimeFormat.DATETIME.width()];
+        text = DateUtil.format(dateTime);
+        textBytes = text.getBytes(StandardCharsets.US_ASCII);
+        timestamp = 1710466245123L;
+    }
+
+    @Benchmark
+    public String patternOfPerCall() {
+        return dateTime.format(DateTimeFormatter.ofPattern(AUDIT_PATTERN));
+    }
+
+    @Benchmark
+    public String patternCached() {
+        return DateUtil.format(dateTime, AUDIT_PATTERN);
+    }
+
+    @Benchmark
+    public String datetimeJdkFormatter() {
+        return DateUtil.DATETIME_FORMATTER.format(dateTime);
+    }
+
+    @Benchmark
+    public String datetimeFixed() {
+        return DateUtil.format(dateTime);
+    }
+
+    @Benchmark
+    public char[] datetimeFixedChars() {
+        DateUtil.formatTo(dateTime, chars, 0);
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] datetimeFixedBytes() {
+        DateUtil.formatTo(dateTime, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public String compactJdkFormatter() {
+        return DateUtil.DATETIME_COMPACT_FORMATTER.format(dateTime);
+    }
+
+    @Benchmark
+    public String compactFixed() {
+        return DateUtil.format(dateTime, DateUtil.DATETIME_COMPACT_PATTERN);
+    }
+
+    @Benchmark
+    public LocalDateTime parseJdkFormatter() {
+        return LocalDateTime.parse(text, DateUtil.DATETIME_FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime parseFixed() {
+        return DateUtil.parse(text);
+    }
+
+    @Benchmark
+    public LocalDateTime parseFixedBytes() {
+        return FixedDateTimeFormat.DATETIME.parse(textBytes, 0);
+    }
+
+    @Benchmark
+    public long parseJdkTimestamp() {
+        return DateUtil.toTimestamp(LocalDateTime.parse(text, DateUtil.DATETIME_FORMATTER));
+    }
+
+    @Benchmark
+    public long parseFixedTimestamp() {
+        return DateUtil.parseTimestamp(text, DateUtil.HONG_KONG_ZONE_ID);
+    }
+
+    @Benchmark
+    public long startOfDayHongKongLocalDateTime() {
+        return Instant.ofEpochMilli(timestamp).atZone(DateUtil.HONG_KONG_ZONE_ID).toLocalDate()
+                .atStartOfDay(DateUtil.HONG_KONG_ZONE_ID).toInstant().toEpochMilli();
+    }
+
+    @Benchmark
+    public long startOfDayHongKongMillis() {
+        return DateUtil.startOfDayHongKong(timestamp);
+    }
+}
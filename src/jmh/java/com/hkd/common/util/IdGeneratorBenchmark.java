@@ -0,0 +1,113 @@
+package com.hkd.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IdGenerator 并发竞争基准测试
+ *
+ * 对比 SYNCHRONIZED、LOCK_FREE 与 THREAD_LOCAL 模式在 1~64 线程下的吞吐量和单次耗时。
+ *
+ * 单个workerId每毫秒最多4096个ID,使用系统时钟（clock=SYSTEM）时各模式都被限制在约 4.096 ops/us,
+ * 测到的是时钟而不是锁竞争。clock=FAST_FORWARD 使用每微秒前进1毫秒的时钟,序列号不会用尽,
+ * 结果反映互斥锁与CAS本身的开销。
+ *
+ * 运行: mvn -Pbenchmark test-compile exec:exec -Djmh.args="IdGeneratorBenchmark -p clock=FAST_FORWARD"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE", "THREAD_LOCAL"})
+    private IdGenerator.Mode mode;
+
+    @Param({"FAST_FORWARD", "SYSTEM"})
+    private String clock;
+
+    private IdGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = IdGenerator.builder()
+                .workerId(1)
+                .mode(mode)
+                .clock("SYSTEM".equals(clock) ? Clock.systemUTC() : new FastForwardClock())
+                .build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threads01() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long threads04() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long threads16() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long threads64() {
+        return generator.nextId();
+    }
+
+    /**
+     * 快进时钟: 每经过1微秒前进1毫秒,基于System.nanoTime(),单调且读取无共享写
+     */
+    static final class FastForwardClock extends Clock {
+
+        private final long originMillis = System.currentTimeMillis();
+
+        private final long originNanos = System.nanoTime();
+
+        @Override
+        public long millis() {
+            return originMillis + (System.nanoTime() - originNanos) / 1000L;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hkd.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hkd.common.dto.PageResponse;
+import com.hkd.common.dto.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtil STANDARD 与 ACCELERATED 配置档的吞吐量对比
+ *
+ * 覆盖 Result、PageResponse 和订单事件的序列化与反序列化;setup阶段校验两种配置档输出逐字节一致。
+ *
+ * 运行: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonProfileBenchmark"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonProfileBenchmark {
+
+    private static final TypeReference<Result<OrderEvent>> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<PageResponse<OrderEvent>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"STANDARD", "ACCELERATED"})
+    private JsonUtil.Profile profile;
+
+    private ObjectWriter eventWriter;
+    private ObjectWriter resultWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader eventReader;
+    private ObjectReader resultReader;
+    private ObjectReader pageReader;
+
+    private OrderEvent event;
+    private Result<OrderEvent> result;
+    private PageResponse<OrderEvent> page;
+    private byte[] eventJson;
+    private byte[] resultJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        IdGenerator generator = new IdGenerator(1);
+        event = OrderEvent.sample(generator.nextId());
+        result = new Result<>(200, "Success", event, 1704067200000L);
+        List<OrderEvent> records = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            records.add(OrderEvent.sample(generator.nextId()));
+        }
+        page = PageResponse.of(1, 20, 1000L, records);
+
+        eventWriter = JsonUtil.writer(profile, OrderEvent.class);
+        resultWriter = JsonUtil.writer(profile, Result.class);
+        pageWriter = JsonUtil.writer(profile, PageResponse.class);
+        eventReader = JsonUtil.reader(profile, OrderEvent.class);
+        resultReader = JsonUtil.reader(profile, RESULT_TYPE);
+        pageReader = JsonUtil.reader(profile, PAGE_TYPE);
+
+        eventJson = eventWriter.writeValueAsBytes(event);
+        resultJson = resultWriter.writeValueAsBytes(result);
+        pageJson = pageWriter.writeValueAsBytes(page);
+
+        if (!JsonUtil.toJson(page).equals(JsonUtil.toJson(page, profile))
+                || !JsonUtil.toJson(result).equals(JsonUtil.toJson(result, profile))) {
+            throw new IllegalStateException("Profile " + profile + " output differs from STANDARD");
+        }
+    }
+
+    @Benchmark
+    public byte[] writeEvent() throws JsonProcessingException {
+        return eventWriter.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] writeResult() throws JsonProcessingException {
+        return resultWriter.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public OrderEvent readEvent() throws IOException {
+        return eventReader.readValue(eventJson);
+    }
+
+    @Benchmark
+    public Result<OrderEvent> readResult() throws IOException {
+        return resultReader.readValue(resultJson);
+    }
+
+    @Benchmark
+    public PageResponse<OrderEvent> readPage() throws IOException {
+        return pageReader.readValue(pageJson);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hkd.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hkd.common.dto.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtil 按类型缓存ObjectReader/ObjectWriter的单次调用耗时对比
+ *
+ * 运行: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonUtilBenchmark"
+ *
+ * @author HKD Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilBenchmark {
+
+    private static final TypeReference<Result<OrderEvent>> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private ObjectMapper mapper;
+    private ObjectReader eventReader;
+    private ObjectReader resultReader;
+    private ObjectWriter eventWriter;
+
+    private OrderEvent event;
+    private String eventJson;
+    private String resultJson;
+
+    @Setup
+    public void setup() {
+        mapper = JsonUtil.getObjectMapper();
+        eventReader = JsonUtil.reader(OrderEvent.class);
+        resultReader = JsonUtil.reader(RESULT_TYPE);
+        eventWriter = JsonUtil.writer(OrderEvent.class);
+
+        event = OrderEvent.sample(IdGenerator.getInstance(1).nextId());
+        eventJson = JsonUtil.toJson(event);
+        resultJson = JsonUtil.toJson(Result.success(event));
+    }
+
+    @Benchmark
+    public OrderEvent readMapper() throws JsonProcessingException {
+        return mapper.readValue(eventJson, OrderEvent.class);
+    }
+
+    @Benchmark
+    public OrderEvent readCachedReader() throws JsonProcessingException {
+        return eventReader.readValue(eventJson);
+    }
+
+    @Benchmark
+    public Result<OrderEvent> readTypeReferenceMapper() throws JsonProcessingException {
+        return mapper.readValue(resultJson, RESULT_TYPE);
+    }
+
+    @Benchmark
+    public Result<OrderEvent> readTypeReferenceCachedReader() throws JsonProcessingException {
+        return resultReader.readValue(resultJson);
+    }
+
+    @Benchmark
+    public String writeMapper() throws JsonProcessingException {
+        return mapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String writeCachedWriter() throws JsonProcessingException {
+        return eventWriter.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String prettyNewWriter() throws JsonProcessingException {
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String prettyJsonUtil() {
+        return JsonUtil.toJsonPretty(event);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hkd.common.util;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 基准测试用的典型订单事件
+ *
+ * @author HKD Team
+ */
+@Data
+public class OrderEvent {
+
+    private Long orderId;
+    private Long userId;
+    private String symbol;
+    private String side;
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private Integer status;
+    private LocalDateTime createdAt;
+
+    public static OrderEvent sample(long orderId) {
+        OrderEvent event = new OrderEvent();
+        event.setOrderId(orderId);
+        event.setUserId(100001L);
+        event.setSymbol("BTC-USDT");
+        event.setSide("BUY");
+        event.setPrice(new BigDecimal("43125.50000000"));
+        event.setQuantity(new BigDecimal("0.01250000"));
+        event.setStatus(1);
+        event.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0));
+        return event;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hkd.common.dto;
+
+import com.hkd.common.util.IdEncoding;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 游标分页（Keyset）游标
+ *
+ * 由排序键和Snowflake ID组成,对应上一页边界行的 (sortKey, id);ID保证排序键相同时位置唯一。
+ * 编码为23位不透明字符串: 方向标记(n/p) + BASE62(sortKey) + BASE62(id),可直接放在URL参数中。
+ *
+ * 查询方式（以默认的DESC排序为例）:
+ * - 向后翻页: WHERE (sort_key, id) &lt; (#{sortKey}, #{id}) ORDER BY sort_key DESC, id DESC LIMIT pageSize+1
+ * - 向前翻页: WHERE (sort_key, id) &gt; (#{sortKey}, #{id}) ORDER BY sort_key ASC, id ASC LIMIT pageSize+1
+ * 每页代价只与pageSize有关,与翻页深度无关。只按ID排序时sortKey与id相同。
+ *
+ * @author HKD Team
+ */
+@Getter
+@EqualsAndHashCode
+public final class PageCursor {
+
+    /**
+     * 编码长度
+     */
+    public static final int ENCODED_LENGTH = 1 + 2 * IdEncoding.BASE62.width();
+
+    private static final char NEXT = 'n';
+
+    private static final char PREV = 'p';
+
+    /**
+     * 排序键（时间戳、ID等可映射为long的有序值）
+     */
+    private final long sortKey;
+
+    /**
+     * 边界行的Snowflake ID
+     */
+    private final long id;
+
+    /**
+     * 是否向前翻页（取游标之前的记录）
+     */
+    private final boolean backward;
+
+    private PageCursor(long sortKey, long id, boolean backward) {
+        this.sortKey = sortKey;
+        this.id = id;
+        this.backward = backward;
+    }
+
+    /**
+     * 下一页游标（取该行之后的记录）
+     */
+    public static PageCursor after(long sortKey, long id) {
+        return new PageCursor(sortKey, id, false);
+    }
+
+    /**
+     * 上一页游标（取该行之前的记录）
+     */
+    public static PageCursor before(long sortKey, long id) {
+        return new PageCursor(sortKey, id, true);
+    }
+
+    /**
+     * 编码为不透明字符串
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder(ENCODED_LENGTH);
+        sb.append(backward ? PREV : NEXT);
+        IdEncoding.BASE62.encode(sortKey, sb);
+        IdEncoding.BASE62.encode(id, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 解码游标字符串
+     *
+     * @throws IllegalArgumentException 游标格式非法
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.length() != ENCODED_LENGTH
+                || (cursor.charAt(0) != NEXT && cursor.charAt(0) != PREV)) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        int width = IdEncoding.BASE62.width();
+        try {
+            long sortKey = IdEncoding.BASE62.decode(cursor.subSequence(1, 1 + width));
+            long id = IdEncoding.BASE62.decode(cursor.subSequence(1 + width, ENCODED_LENGTH));
+            return new PageCursor(sortKey, id, cursor.charAt(0) == PREV);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
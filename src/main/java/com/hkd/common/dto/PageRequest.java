@@ -1,5 +1,6 @@
 package com.hkd.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,21 @@ public class PageRequest implements Serializable {
      */
     private String sortOrder = "DESC";
 
+    /**
+     * 游标（上一页响应中的nextCursor/prevCursor;不为空时使用游标分页,忽略page）
+     */
+    private String cursor;
+
+    /**
+     * 构造函数（偏移分页,保持与新增cursor之前的全参构造函数一致）
+     */
+    public PageRequest(Integer page, Integer pageSize, String sortBy, String sortOrder) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.sortBy = sortBy;
+        this.sortOrder = sortOrder;
+    }
+
     /**
      * 计算偏移量（用于数据库查询）
      */
@@ -56,4 +72,29 @@ public class PageRequest implements Serializable {
     public int getLimit() {
         return pageSize;
     }
+
+    /**
+     * 获取查询条数（多取一行用于判断是否有下一页,不需要COUNT(*)）
+     */
+    @JsonIgnore
+    public int getFetchLimit() {
+        return pageSize + 1;
+    }
+
+    /**
+     * 是否游标分页
+     */
+    @JsonIgnore
+    public boolean isCursorMode() {
+        return cursor != null && !cursor.isEmpty();
+    }
+
+    /**
+     * 解码游标（首页或偏移分页时返回null）
+     *
+     * @throws IllegalArgumentException 游标格式非法
+     */
+    public PageCursor decodeCursor() {
+        return isCursorMode() ? PageCursor.decode(cursor) : null;
+    }
 }
@@ -3,18 +3,29 @@ package com.hkd.common.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 /**
  * 分页响应
  *
+ * equals/hashCode/toString直接读取字段,不经过getter: 总数延迟计算的响应（{@link #ofRows(Integer, Integer, List, LongSupplier)}）
+ * 在打印日志或用作Map键时不会触发COUNT查询,未计算前total/totalPages按null处理。
+ *
  * @param <T> 数据类型
  * @author HKD Team
  */
 @Data
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -33,7 +44,7 @@ public class PageResponse<T> implements Serializable {
     private Integer pageSize;
 
     /**
-     * 总记录数
+     * 总记录数（不统计总数时省略）
      */
     private Long total;
 
@@ -57,6 +68,35 @@ public class PageResponse<T> implements Serializable {
      */
     private Boolean hasPrevious;
 
+    /**
+     * 下一页游标（游标分页）
+     */
+    private String nextCursor;
+
+    /**
+     * 上一页游标（游标分页）
+     */
+    private String prevCursor;
+
+    /**
+     * 总记录数是否为估算值（精确统计时省略）
+     */
+    private Boolean totalEstimated;
+
+    /**
+     * 构造函数（偏移分页字段,保持与新增游标/估算字段之前的全参构造函数一致）
+     */
+    public PageResponse(Integer page, Integer pageSize, Long total, Integer totalPages, List<T> records,
+                        Boolean hasNext, Boolean hasPrevious) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.total = total;
+        this.totalPages = totalPages;
+        this.records = records;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+    }
+
     /**
      * 构造分页响应
      */
@@ -78,10 +118,173 @@ public class PageResponse<T> implements Serializable {
         return response;
     }
 
+    /**
+     * 构造分页响应（不统计总数）
+     *
+     * rows为 LIMIT {@link PageRequest#getFetchLimit()}（pageSize+1）的查询结果,多出的一行只用于判断hasNext,不会返回。
+     * 省略total/totalPages,免去COUNT(*)查询。
+     */
+    public static <T> PageResponse<T> ofRows(Integer page, Integer pageSize, List<T> rows) {
+        PageResponse<T> response = new PageResponse<>();
+        fillRows(response, page, pageSize, rows);
+        return response;
+    }
+
+    /**
+     * 构造分页响应（总数延迟计算）
+     *
+     * hasNext由pageSize+1行判断;total在首次读取（通常是序列化时）才调用supplier计算,
+     * 多个线程同时首次读取时也只计算一次。
+     */
+    public static <T> PageResponse<T> ofRows(Integer page, Integer pageSize, List<T> rows, LongSupplier total) {
+        if (total == null) {
+            throw new IllegalArgumentException("Total supplier must not be null");
+        }
+        PageResponse<T> response = new LazyTotalPageResponse<>(total);
+        fillRows(response, page, pageSize, rows);
+        return response;
+    }
+
+    /**
+     * 构造分页响应（估算总数,如表统计信息中的行数）
+     *
+     * hasNext由pageSize+1行判断,不依赖估算值;total不小于已确认存在的记录数,totalEstimated为true。
+     */
+    public static <T> PageResponse<T> estimated(Integer page, Integer pageSize, List<T> rows, long estimatedTotal) {
+        PageResponse<T> response = ofRows(page, pageSize, rows);
+        long known = (long) (page - 1) * pageSize + response.getRecords().size() + (response.getHasNext() ? 1 : 0);
+        long total = Math.max(estimatedTotal, known);
+        response.setTotal(total);
+        response.setTotalPages((int) Math.ceil((double) total / pageSize));
+        response.setTotalEstimated(true);
+        return response;
+    }
+
+    private static <T> void fillRows(PageResponse<T> response, Integer page, Integer pageSize, List<T> rows) {
+        boolean more = rows.size() > pageSize;
+        response.setPage(page);
+        response.setPageSize(pageSize);
+        response.setRecords(more ? new ArrayList<>(rows.subList(0, pageSize)) : rows);
+        response.setHasNext(more);
+        response.setHasPrevious(page > 1);
+    }
+
+    /**
+     * 构造游标分页响应（只按Snowflake ID排序）
+     *
+     * @see #ofCursor(PageRequest, List, ToLongFunction, ToLongFunction)
+     */
+    public static <T> PageResponse<T> ofCursor(PageRequest request, List<T> rows, ToLongFunction<? super T> id) {
+        return ofCursor(request, rows, id, id);
+    }
+
+    /**
+     * 构造游标分页响应
+     *
+     * rows为按 {@link PageRequest#decodeCursor()} 执行seek查询、LIMIT {@link PageRequest#getFetchLimit()} 的结果;
+     * 多出的一行只用于判断是否还有更多记录,不会返回。向前翻页时查询按相反顺序执行,这里会反转回展示顺序。
+     * 游标分页不计算total/totalPages,JSON中省略这两个字段。
+     *
+     * @param request 分页请求
+     * @param rows    查询结果（最多pageSize+1行）
+     * @param sortKey 排序键
+     * @param id      Snowflake ID
+     */
+    public static <T> PageResponse<T> ofCursor(PageRequest request, List<T> rows,
+                                               ToLongFunction<? super T> sortKey, ToLongFunction<? super T> id) {
+        PageCursor cursor = request.decodeCursor();
+        boolean backward = cursor != null && cursor.isBackward();
+        int pageSize = request.getPageSize();
+        boolean more = rows.size() > pageSize;
+
+        List<T> records = new ArrayList<>(more ? rows.subList(0, pageSize) : rows);
+        if (backward) {
+            Collections.reverse(records);
+        }
+
+        PageResponse<T> response = new PageResponse<>();
+        response.setPageSize(pageSize);
+        response.setRecords(records);
+        response.setHasNext(backward || more);
+        response.setHasPrevious(backward ? more : cursor != null);
+        if (!records.isEmpty()) {
+            T first = records.get(0);
+            T last = records.get(records.size() - 1);
+            if (response.getHasNext()) {
+                response.setNextCursor(PageCursor.after(sortKey.applyAsLong(last), id.applyAsLong(last)).encode());
+            }
+            if (response.getHasPrevious()) {
+                response.setPrevCursor(PageCursor.before(sortKey.applyAsLong(first), id.applyAsLong(first)).encode());
+            }
+        }
+        return response;
+    }
+
     /**
      * 空分页响应
      */
     public static <T> PageResponse<T> empty(Integer page, Integer pageSize) {
         return of(page, pageSize, 0L, List.of());
     }
+
+    /**
+     * 总数延迟计算的分页响应
+     *
+     * supplier在计算完成（total/totalPages写入之后）才置为null,读到null的线程能看到计算结果;
+     * 计算在锁内进行,并发的首次读取只调用一次supplier。
+     */
+    private static final class LazyTotalPageResponse<T> extends PageResponse<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient volatile LongSupplier totalSupplier;
+
+        private LazyTotalPageResponse(LongSupplier totalSupplier) {
+            this.totalSupplier = totalSupplier;
+        }
+
+        @Override
+        public Long getTotal() {
+            resolveTotal();
+            return super.getTotal();
+        }
+
+        @Override
+        public Integer getTotalPages() {
+            resolveTotal();
+            return super.getTotalPages();
+        }
+
+        @Override
+        public void setTotal(Long total) {
+            synchronized (this) {
+                super.setTotal(total);
+                totalSupplier = null;
+            }
+        }
+
+        private void resolveTotal() {
+            if (totalSupplier == null) {
+                return;
+            }
+            synchronized (this) {
+                LongSupplier supplier = totalSupplier;
+                if (supplier == null) {
+                    return;
+                }
+                long total = supplier.getAsLong();
+                super.setTotal(total);
+                super.setTotalPages((int) Math.ceil((double) total / getPageSize()));
+                totalSupplier = null;
+            }
+        }
+
+        /**
+         * Java序列化前计算总数,以普通PageResponse写出
+         */
+        private Object writeReplace() {
+            return new PageResponse<>(getPage(), getPageSize(), getTotal(), getTotalPages(), getRecords(),
+                    getHasNext(), getHasPrevious(), getNextCursor(), getPrevCursor(), getTotalEstimated());
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.hkd.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hkd.common.exception.ErrorCode;
+import com.hkd.common.util.DateUtil;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,12 +21,15 @@ import java.io.Serializable;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class Result<T> implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    /**
+     * 2: code由Integer改为int
+     */
+    private static final long serialVersionUID = 2L;
 
     /**
      * 响应码 (200=成功, 其他=失败)
      */
-    private Integer code;
+    private int code;
 
     /**
      * 响应消息
@@ -41,52 +46,139 @@ public class Result<T> implements Serializable {
      */
     private Long timestamp;
 
+    /**
+     * 按ErrorCode预先构建的不可变常量响应
+     */
+    private static final Result<?>[] CONSTANTS;
+
+    static {
+        ErrorCode[] errorCodes = ErrorCode.values();
+        CONSTANTS = new Result<?>[errorCodes.length];
+        for (ErrorCode errorCode : errorCodes) {
+            CONSTANTS[errorCode.ordinal()] = new ConstantResult<>(errorCode.getCode(), errorCode.getMessage());
+        }
+    }
+
     /**
      * 成功响应
      */
     public static <T> Result<T> success() {
-        return new Result<>(200, "Success", null, System.currentTimeMillis());
+        return new Result<>(200, "Success", null, DateUtil.currentTimeMillis());
     }
 
     /**
      * 成功响应（带数据）
      */
     public static <T> Result<T> success(T data) {
-        return new Result<>(200, "Success", data, System.currentTimeMillis());
+        return new Result<>(200, "Success", data, DateUtil.currentTimeMillis());
     }
 
     /**
      * 成功响应（自定义消息）
      */
     public static <T> Result<T> success(String message, T data) {
-        return new Result<>(200, message, data, System.currentTimeMillis());
+        return new Result<>(200, message, data, DateUtil.currentTimeMillis());
     }
 
     /**
      * 失败响应
      */
     public static <T> Result<T> error(String message) {
-        return new Result<>(500, message, null, System.currentTimeMillis());
+        return new Result<>(500, message, null, DateUtil.currentTimeMillis());
     }
 
     /**
      * 失败响应（自定义错误码）
      */
-    public static <T> Result<T> error(Integer code, String message) {
-        return new Result<>(code, message, null, System.currentTimeMillis());
+    public static <T> Result<T> error(int code, String message) {
+        return new Result<>(code, message, null, DateUtil.currentTimeMillis());
     }
 
     /**
      * 失败响应（带数据）
      */
-    public static <T> Result<T> error(Integer code, String message, T data) {
-        return new Result<>(code, message, data, System.currentTimeMillis());
+    public static <T> Result<T> error(int code, String message, T data) {
+        return new Result<>(code, message, data, DateUtil.currentTimeMillis());
+    }
+
+    /**
+     * 常量响应（无数据）
+     *
+     * 返回按ErrorCode缓存的不可变单例,不分配对象;时间戳在读取时取自 {@link DateUtil#currentTimeMillis()},
+     * 即 {@link DateUtil#setClock} 指定的时钟（高频场景可切换为CoarseClock,测试中可使用ManualClock）。
+     * 适用于心跳、撤单确认等高频无数据响应,调用set方法会抛出UnsupportedOperationException。
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> of(ErrorCode errorCode) {
+        return (Result<T>) CONSTANTS[errorCode.ordinal()];
     }
 
     /**
      * 判断是否成功
      */
     public boolean isSuccess() {
-        return this.code != null && this.code == 200;
+        return this.code == 200;
+    }
+
+    /**
+     * 不可变常量响应,时间戳读取DateUtil当前时钟
+     */
+    private static final class ConstantResult<T> extends Result<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private ConstantResult(int code, String message) {
+            super(code, message, null, null);
+        }
+
+        @Override
+        public Long getTimestamp() {
+            return DateUtil.currentTimeMillis();
+        }
+
+        @Override
+        public void setCode(int code) {
+            throw new UnsupportedOperationException("Constant result is immutable");
+        }
+
+        @Override
+        public void setMessage(String message) {
+            throw new UnsupportedOperationException("Constant result is immutable");
+        }
+
+        @Override
+        public void setData(T data) {
+            throw new UnsupportedOperationException("Constant result is immutable");
+        }
+
+        @Override
+        public void setTimestamp(Long timestamp) {
+            throw new UnsupportedOperationException("Constant result is immutable");
+        }
+
+        /**
+         * 按实例比较（每个ErrorCode只有一个常量）;时间戳随时钟变化,不参与equals/hashCode
+         */
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        protected boolean canEqual(Object other) {
+            return other instanceof ConstantResult;
+        }
+
+        /**
+         * 反序列化时还原为缓存的常量,保持按实例比较的equals
+         */
+        private Object readResolve() {
+            return Result.of(ErrorCode.fromCode(getCode()));
+        }
     }
 }
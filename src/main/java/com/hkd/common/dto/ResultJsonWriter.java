@@ -0,0 +1,166 @@
+package com.hkd.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.hkd.common.exception.ErrorCode;
+import com.hkd.common.util.DateUtil;
+import com.hkd.common.util.JsonUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Result 流式序列化
+ *
+ * 响应信封 code/message/success 对每个ErrorCode都是固定的,预先编码为字节片段;
+ * 每次响应只序列化 data 和 timestamp,直接写入 OutputStream 或 ByteBuffer。
+ * 默认配置下输出与 {@code JsonUtil.toJson(Result)} 逐字节一致:
+ * {"code":200,"message":"Success","data":...,"timestamp":...,"success":true}
+ *
+ * {@link JsonUtil#configure} 修改配置后,信封片段在下一次写入时按新的ObjectMapper重新编码（如非ASCII转义）,
+ * data 使用JsonUtil当前的Writer。信封的字段名、字段顺序和null省略规则是固定的,
+ * 修改了这些行为的配置（命名策略、针对Result的configOverride、数字写为字符串等）下不保证与toJson一致。
+ *
+ * @author HKD Team
+ */
+public class ResultJsonWriter {
+
+    private static final byte[] DATA_FIELD = ",\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 时间戳数字缓冲区
+     */
+    private static final ThreadLocal<byte[]> DIGITS = ThreadLocal.withInitial(() -> new byte[20]);
+
+    /**
+     * 当前配置下预编码的信封片段,JsonUtil配置修改后整体替换
+     */
+    private static volatile Envelope envelope = new Envelope(JsonUtil.getObjectMapper());
+
+    /**
+     * 写入响应（当前时间戳）
+     */
+    public static void write(ErrorCode errorCode, Object data, OutputStream out) throws IOException {
+        write(errorCode, data, DateUtil.currentTimeMillis(), out);
+    }
+
+    /**
+     * 写入响应
+     *
+     * @param errorCode 响应码和消息
+     * @param data      响应数据,null时省略data字段
+     * @param timestamp 时间戳
+     * @param out       目标流（写入后不关闭）
+     */
+    public static void write(ErrorCode errorCode, Object data, long timestamp, OutputStream out) throws IOException {
+        Envelope current = envelope();
+        out.write(current.prefixes[errorCode.ordinal()]);
+        if (data != null) {
+            out.write(DATA_FIELD);
+            // 按data运行时类型取JsonUtil缓存的Writer（不关闭目标流,随JsonUtil.configure更新）
+            JsonUtil.writer(data.getClass()).writeValue(out, data);
+        }
+        out.write(TIMESTAMP_FIELD);
+        writeLong(timestamp, out);
+        out.write(current.suffixes[errorCode.ordinal()]);
+    }
+
+    /**
+     * 写入响应到ByteBuffer（当前时间戳）
+     */
+    public static void write(ErrorCode errorCode, Object data, ByteBuffer out) {
+        write(errorCode, data, DateUtil.currentTimeMillis(), out);
+    }
+
+    /**
+     * 写入响应到ByteBuffer（从position开始,写入后position前移）
+     *
+     * @throws java.nio.BufferOverflowException 剩余空间不足
+     */
+    public static void write(ErrorCode errorCode, Object data, long timestamp, ByteBuffer out) {
+        try {
+            write(errorCode, data, timestamp, new ByteBufferBackedOutputStream(out));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Result serialization failed", e);
+        }
+    }
+
+    /**
+     * 获取与JsonUtil当前配置一致的信封片段（按共享ObjectMapper实例判断配置是否修改）
+     */
+    private static Envelope envelope() {
+        Envelope current = envelope;
+        ObjectMapper mapper = JsonUtil.getObjectMapper();
+        if (current.mapper != mapper) {
+            current = new Envelope(mapper);
+            envelope = current;
+        }
+        return current;
+    }
+
+    /**
+     * 写入long的十进制ASCII
+     */
+    private static void writeLong(long value, OutputStream out) throws IOException {
+        byte[] digits = DIGITS.get();
+        int pos = digits.length;
+        boolean negative = value < 0;
+        long v = negative ? value : -value;
+        do {
+            digits[--pos] = (byte) ('0' - (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (negative) {
+            digits[--pos] = '-';
+        }
+        out.write(digits, pos, digits.length - pos);
+    }
+
+    private ResultJsonWriter() {
+    }
+
+    /**
+     * 按ErrorCode预编码的信封片段
+     */
+    private static final class Envelope {
+
+        /**
+         * 编码使用的ObjectMapper
+         */
+        private final ObjectMapper mapper;
+
+        /**
+         * 前缀: {"code":...,"message":"..."
+         */
+        private final byte[][] prefixes;
+
+        /**
+         * 后缀: ,"success":...}
+         */
+        private final byte[][] suffixes;
+
+        private Envelope(ObjectMapper mapper) {
+            ErrorCode[] errorCodes = ErrorCode.values();
+            this.mapper = mapper;
+            this.prefixes = new byte[errorCodes.length][];
+            this.suffixes = new byte[errorCodes.length][];
+            for (ErrorCode errorCode : errorCodes) {
+                String message;
+                try {
+                    message = mapper.writeValueAsString(errorCode.getMessage());
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to encode message of " + errorCode, e);
+                }
+                prefixes[errorCode.ordinal()] = ("{\"code\":" + errorCode.getCode() + ",\"message\":" + message)
+                        .getBytes(StandardCharsets.UTF_8);
+                suffixes[errorCode.ordinal()] = (",\"success\":" + (errorCode.getCode() == 200) + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.hkd.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 流式分页响应
+ *
+ * 与 {@link PageResponse} 字段相同,但记录来自 Iterator/Stream/Spliterator,序列化时通过 JsonGenerator
+ * 逐条写出,不需要先把整页数据加载到内存,适用于成交历史、资金流水等大页导出。
+ * 字段顺序为 page、pageSize、records,之后才是 total、totalPages、hasNext、hasPrevious,
+ * 因此总数可以在记录写完后再通过 LongSupplier 计算。客户端仍可按 PageResponse 反序列化。
+ *
+ * 记录源只能消费一次,重复序列化会抛出IllegalStateException;Stream在写完（或写出失败）后关闭。
+ *
+ * @param <T> 数据类型
+ * @author HKD Team
+ */
+public class StreamingPageResponse<T> implements JsonSerializable {
+
+    private final Integer page;
+
+    private final Integer pageSize;
+
+    private final LongSupplier total;
+
+    private final Iterator<? extends T> records;
+
+    /**
+     * 记录源关闭回调（Stream）,可为null
+     */
+    private final AutoCloseable onClose;
+
+    private boolean consumed;
+
+    private StreamingPageResponse(Integer page, Integer pageSize, LongSupplier total,
+                                  Iterator<? extends T> records, AutoCloseable onClose) {
+        if (page == null || pageSize == null || pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page: page=" + page + ", pageSize=" + pageSize);
+        }
+        if (total == null || records == null) {
+            throw new IllegalArgumentException("Total and records must not be null");
+        }
+        this.page = page;
+        this.pageSize = pageSize;
+        this.total = total;
+        this.records = records;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 构造流式分页响应（总数已知）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, Long total, Iterator<? extends T> records) {
+        return of(page, pageSize, constant(total), records);
+    }
+
+    /**
+     * 构造流式分页响应（总数在记录写完后计算）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, LongSupplier total, Iterator<? extends T> records) {
+        return new StreamingPageResponse<>(page, pageSize, total, records, null);
+    }
+
+    /**
+     * 构造流式分页响应（总数已知,Stream在写完后关闭）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, Long total, Stream<? extends T> records) {
+        return of(page, pageSize, constant(total), records);
+    }
+
+    /**
+     * 构造流式分页响应（总数在记录写完后计算,Stream在写完后关闭）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, LongSupplier total, Stream<? extends T> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Records must not be null");
+        }
+        return new StreamingPageResponse<>(page, pageSize, total, records.iterator(), records);
+    }
+
+    /**
+     * 构造流式分页响应（总数已知）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, Long total, Spliterator<? extends T> records) {
+        return of(page, pageSize, constant(total), records);
+    }
+
+    /**
+     * 构造流式分页响应（总数在记录写完后计算）
+     */
+    public static <T> StreamingPageResponse<T> of(Integer page, Integer pageSize, LongSupplier total, Spliterator<? extends T> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Records must not be null");
+        }
+        return of(page, pageSize, total, Spliterators.iterator(records));
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(this);
+        writeFields(gen, serializers);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeFields(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (consumed) {
+            throw new IllegalStateException("Streaming page records can only be written once");
+        }
+        consumed = true;
+
+        gen.writeNumberField("page", page);
+        gen.writeNumberField("pageSize", pageSize);
+        gen.writeArrayFieldStart("records");
+        try {
+            while (records.hasNext()) {
+                serializers.defaultSerializeValue(records.next(), gen);
+            }
+        } finally {
+            closeSource();
+        }
+        gen.writeEndArray();
+
+        // 记录写完后再计算总数及派生字段,与 PageResponse.of 保持一致
+        long totalCount = total.getAsLong();
+        int totalPages = (int) Math.ceil((double) totalCount / pageSize);
+        gen.writeNumberField("total", totalCount);
+        gen.writeNumberField("totalPages", totalPages);
+        gen.writeBooleanField("hasNext", page < totalPages);
+        gen.writeBooleanField("hasPrevious", page > 1);
+    }
+
+    private void closeSource() throws IOException {
+        if (onClose == null) {
+            return;
+        }
+        try {
+            onClose.close();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to close record source", e);
+        }
+    }
+
+    private static LongSupplier constant(Long total) {
+        if (total == null) {
+            throw new IllegalArgumentException("Total must not be null");
+        }
+        long value = total;
+        return () -> value;
+    }
+}
@@ -0,0 +1,171 @@
+package com.hkd.common.enums;
+
+import java.lang.reflect.Array;
+import java.util.function.ToIntFunction;
+
+/**
+ * 按代码查找枚举的稠密数组索引
+ *
+ * 构建时把枚举常量按 code - minCode 放入数组,查找只是一次边界检查加数组下标访问,
+ * 不克隆values()、不装箱、不遍历。代码跨度不能超过 {@link #MAX_SPAN}。
+ *
+ * @param <E> 枚举类型
+ * @author HKD Team
+ */
+public final class CodeEnumIndex<E extends Enum<E>> {
+
+    /**
+     * 最大代码跨度（数组长度上限）
+     */
+    public static final int MAX_SPAN = 1 << 16;
+
+    private final Class<E> type;
+
+    /**
+     * 非法代码异常消息前缀,如 "Invalid OrderStatus code: "
+     */
+    private final String invalidMessage;
+
+    private final int minCode;
+
+    private final E[] byCode;
+
+    @SuppressWarnings("unchecked")
+    private CodeEnumIndex(Class<E> type, ToIntFunction<? super E> code, String label) {
+        E[] constants = type.getEnumConstants();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (E constant : constants) {
+            int c = code.applyAsInt(constant);
+            min = Math.min(min, c);
+            max = Math.max(max, c);
+        }
+        long span = constants.length == 0 ? 0 : (long) max - min + 1;
+        if (span > MAX_SPAN) {
+            throw new IllegalArgumentException("Code span of " + type.getSimpleName() + " too large: " + span);
+        }
+        this.type = type;
+        this.invalidMessage = "Invalid " + label + ": ";
+        this.minCode = constants.length == 0 ? 0 : min;
+        this.byCode = (E[]) Array.newInstance(type, (int) span);
+        for (E constant : constants) {
+            int index = code.applyAsInt(constant) - minCode;
+            if (byCode[index] != null) {
+                throw new IllegalArgumentException("Duplicate code in " + type.getSimpleName() + ": "
+                        + byCode[index] + ", " + constant);
+            }
+            byCode[index] = constant;
+        }
+    }
+
+    /**
+     * 构建索引
+     *
+     * @param type  枚举类型
+     * @param code  代码取值函数
+     * @param label 非法代码时异常消息中的名称,如 "OrderStatus code"
+     */
+    public static <E extends Enum<E>> CodeEnumIndex<E> of(Class<E> type, ToIntFunction<? super E> code, String label) {
+        return new CodeEnumIndex<>(type, code, label);
+    }
+
+    /**
+     * 按代码查找
+     *
+     * @throws IllegalArgumentException 代码不存在
+     */
+    public E get(int code) {
+        E constant = getOrDefault(code, null);
+        if (constant == null) {
+            throw new IllegalArgumentException(invalidMessage + code);
+        }
+        return constant;
+    }
+
+    /**
+     * 按代码查找（可空参数,null视为非法代码）
+     *
+     * @throws IllegalArgumentException 代码为null或不存在
+     */
+    public E get(Integer code) {
+        if (code == null) {
+            throw new IllegalArgumentException(invalidMessage + null);
+        }
+        return get(code.intValue());
+    }
+
+    /**
+     * 按代码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public E getOrDefault(int code, E defaultValue) {
+        int index = code - minCode;
+        if (index < 0 || index >= byCode.length) {
+            return defaultValue;
+        }
+        E constant = byCode[index];
+        return constant != null ? constant : defaultValue;
+    }
+
+    /**
+     * 代码是否存在
+     */
+    public boolean contains(int code) {
+        return getOrDefault(code, null) != null;
+    }
+
+    /**
+     * JSON反序列化: 字符串按枚举名查找（默认的名称序列化格式）,数字或数字字符串按代码查找
+     *
+     * @throws IllegalArgumentException 代码或名称不存在
+     */
+    public E fromJson(Object value) {
+        if (value instanceof Integer code) {
+            return get(code.intValue());
+        }
+        if (value instanceof Number number) {
+            return get(toInt(number.longValue(), value));
+        }
+        if (value instanceof String text) {
+            String trimmed = text.trim();
+            if (isInteger(trimmed)) {
+                return get(toInt(Long.parseLong(trimmed), value));
+            }
+            for (E constant : byCode) {
+                if (constant != null && constant.name().equals(trimmed)) {
+                    return constant;
+                }
+            }
+        }
+        throw new IllegalArgumentException(invalidMessage + value);
+    }
+
+    private int toInt(long code, Object value) {
+        if (code != (int) code) {
+            throw new IllegalArgumentException(invalidMessage + value);
+        }
+        return (int) code;
+    }
+
+    private static boolean isInteger(String text) {
+        int length = text.length();
+        if (length == 0 || length > 11) {
+            return false;
+        }
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CodeEnumIndex[" + type.getSimpleName() + ", codes " + minCode + ".." + (minCode + byCode.length - 1) + "]";
+    }
+}
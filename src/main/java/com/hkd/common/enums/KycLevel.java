@@ -1,5 +1,6 @@
 package com.hkd.common.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -33,7 +34,7 @@ public enum KycLevel {
     /**
      * 等级代码
      */
-    private final Integer level;
+    private final int level;
 
     /**
      * 等级名称
@@ -43,26 +44,42 @@ public enum KycLevel {
     /**
      * 日提现限额（USDT）
      */
-    private final Long dailyWithdrawLimit;
+    private final long dailyWithdrawLimit;
 
     /**
      * 描述
      */
     private final String description;
 
-    KycLevel(Integer level, String name, Long dailyWithdrawLimit, String description) {
+    KycLevel(int level, String name, long dailyWithdrawLimit, String description) {
         this.level = level;
         this.name = name;
         this.dailyWithdrawLimit = dailyWithdrawLimit;
         this.description = description;
     }
 
+    private static final CodeEnumIndex<KycLevel> INDEX = CodeEnumIndex.of(KycLevel.class, KycLevel::getLevel, "KYC level");
+
     public static KycLevel fromLevel(Integer level) {
-        for (KycLevel kycLevel : values()) {
-            if (kycLevel.getLevel().equals(level)) {
-                return kycLevel;
-            }
-        }
-        throw new IllegalArgumentException("Invalid KYC level: " + level);
+        return INDEX.get(level);
+    }
+
+    public static KycLevel fromLevel(int level) {
+        return INDEX.get(level);
+    }
+
+    /**
+     * 按等级代码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public static KycLevel fromLevelOrDefault(int level, KycLevel defaultValue) {
+        return INDEX.getOrDefault(level, defaultValue);
+    }
+
+    /**
+     * JSON反序列化: 按名称序列化,同时接受等级代码或数字字符串
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static KycLevel fromJson(Object value) {
+        return INDEX.fromJson(value);
     }
 }
@@ -1,7 +1,10 @@
 package com.hkd.common.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 订单状态枚举
  *
@@ -40,27 +43,133 @@ public enum OrderStatus {
      */
     EXPIRED(6, "Expired");
 
-    private final Integer code;
+    private final int code;
     private final String description;
 
-    OrderStatus(Integer code, String description) {
+    OrderStatus(int code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    private static final CodeEnumIndex<OrderStatus> INDEX = CodeEnumIndex.of(OrderStatus.class, OrderStatus::getCode, "OrderStatus code");
+
     public static OrderStatus fromCode(Integer code) {
-        for (OrderStatus status : values()) {
-            if (status.getCode().equals(code)) {
-                return status;
-            }
+        return INDEX.get(code);
+    }
+
+    public static OrderStatus fromCode(int code) {
+        return INDEX.get(code);
+    }
+
+    /**
+     * 按代码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public static OrderStatus fromCodeOrDefault(int code, OrderStatus defaultValue) {
+        return INDEX.getOrDefault(code, defaultValue);
+    }
+
+    /**
+     * JSON反序列化: 按名称序列化,同时接受代码或数字字符串
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static OrderStatus fromJson(Object value) {
+        return INDEX.fromJson(value);
+    }
+
+    /**
+     * 终态位掩码（按ordinal）
+     */
+    private static final int FINAL_STATES = mask(FILLED, CANCELLED, REJECTED, EXPIRED);
+
+    /**
+     * 状态迁移表: TRANSITIONS[from.ordinal()] 为允许的目标状态位掩码（按ordinal）
+     *
+     * PENDING -> PARTIAL_FILLED / FILLED / CANCELLED / REJECTED / EXPIRED
+     * PARTIAL_FILLED -> PARTIAL_FILLED（继续部分成交） / FILLED / CANCELLED / EXPIRED
+     * 终态不可迁移
+     */
+    private static final int[] TRANSITIONS = new int[values().length];
+
+    static {
+        TRANSITIONS[PENDING.ordinal()] = mask(PARTIAL_FILLED, FILLED, CANCELLED, REJECTED, EXPIRED);
+        TRANSITIONS[PARTIAL_FILLED.ordinal()] = mask(PARTIAL_FILLED, FILLED, CANCELLED, EXPIRED);
+    }
+
+    private static int mask(OrderStatus... statuses) {
+        int mask = 0;
+        for (OrderStatus status : statuses) {
+            mask |= 1 << status.ordinal();
         }
-        throw new IllegalArgumentException("Invalid OrderStatus code: " + code);
+        return mask;
     }
 
     /**
      * 是否为终态
      */
     public boolean isFinalState() {
-        return this == FILLED || this == CANCELLED || this == REJECTED || this == EXPIRED;
+        return (FINAL_STATES & (1 << ordinal())) != 0;
+    }
+
+    /**
+     * 是否允许迁移到目标状态
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return (TRANSITIONS[ordinal()] & (1 << target.ordinal())) != 0;
+    }
+
+    /**
+     * 按代码判断是否允许迁移,未知代码返回false
+     */
+    public static boolean canTransition(int fromCode, int toCode) {
+        OrderStatus from = INDEX.getOrDefault(fromCode, null);
+        OrderStatus to = INDEX.getOrDefault(toCode, null);
+        return from != null && to != null && from.canTransitionTo(to);
+    }
+
+    /**
+     * 允许迁移到的目标状态集合
+     */
+    public OrderStatusSet transitionTargets() {
+        OrderStatusSet targets = OrderStatusSet.noneOf();
+        for (OrderStatus target : values()) {
+            if (canTransitionTo(target)) {
+                targets = targets.with(target);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 无锁迁移: 以CAS把status中的状态代码改为target,当前状态不允许迁移到target时返回false
+     *
+     * 并发修改时重读当前状态并重新校验,直到成功或迁移不合法。
+     *
+     * @param status 保存订单状态代码的原子变量
+     * @param target 目标状态
+     * @return 是否迁移成功
+     */
+    public static boolean transition(AtomicInteger status, OrderStatus target) {
+        while (true) {
+            int current = status.get();
+            OrderStatus from = INDEX.getOrDefault(current, null);
+            if (from == null || !from.canTransitionTo(target)) {
+                return false;
+            }
+            if (status.compareAndSet(current, target.code)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 无锁迁移: 仅当当前状态为expected且允许迁移到target时,以CAS改为target
+     *
+     * @param status   保存订单状态代码的原子变量
+     * @param expected 期望的当前状态
+     * @param target   目标状态
+     * @return 是否迁移成功（当前状态不是expected或迁移不合法时返回false）
+     */
+    public static boolean compareAndTransition(AtomicInteger status, OrderStatus expected, OrderStatus target) {
+        return expected.canTransitionTo(target) && status.compareAndSet(expected.code, target.code);
     }
 }
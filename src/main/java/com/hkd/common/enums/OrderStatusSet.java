@@ -0,0 +1,189 @@
+package com.hkd.common.enums;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 订单状态集合（不可变）
+ *
+ * 以状态代码为位下标打包在一个long中（bit = 1L &lt;&lt; code）,判断包含只是一次位运算,
+ * 可直接用数据库中的状态代码过滤,无需先转换为枚举。用于订单查询的状态过滤条件:
+ * WHERE status IN (#{set.codes()})
+ *
+ * @author HKD Team
+ */
+public final class OrderStatusSet {
+
+    private static final OrderStatusSet EMPTY = new OrderStatusSet(0L);
+
+    /**
+     * 全部状态
+     */
+    public static final OrderStatusSet ALL;
+
+    /**
+     * 未完结状态（待成交、部分成交）
+     */
+    public static final OrderStatusSet OPEN;
+
+    /**
+     * 终态（完全成交、已取消、已拒绝、已过期）
+     */
+    public static final OrderStatusSet FINAL;
+
+    static {
+        long all = 0L;
+        long fin = 0L;
+        for (OrderStatus status : OrderStatus.values()) {
+            if (status.getCode() < 0 || status.getCode() >= Long.SIZE) {
+                throw new IllegalStateException("OrderStatus code out of range for bit set: " + status);
+            }
+            all |= bit(status);
+            if (status.isFinalState()) {
+                fin |= bit(status);
+            }
+        }
+        ALL = new OrderStatusSet(all);
+        FINAL = new OrderStatusSet(fin);
+        OPEN = new OrderStatusSet(all & ~fin);
+    }
+
+    /**
+     * 状态位（bit = 1L &lt;&lt; code）
+     */
+    private final long bits;
+
+    private OrderStatusSet(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 空集合
+     */
+    public static OrderStatusSet noneOf() {
+        return EMPTY;
+    }
+
+    /**
+     * 由若干状态构建
+     */
+    public static OrderStatusSet of(OrderStatus... statuses) {
+        long bits = 0L;
+        for (OrderStatus status : statuses) {
+            bits |= bit(status);
+        }
+        return new OrderStatusSet(bits);
+    }
+
+    /**
+     * 由状态代码构建（如请求参数中的状态列表）
+     *
+     * @throws IllegalArgumentException 代码不存在
+     */
+    public static OrderStatusSet ofCodes(int... codes) {
+        long bits = 0L;
+        for (int code : codes) {
+            bits |= bit(OrderStatus.fromCode(code));
+        }
+        return new OrderStatusSet(bits);
+    }
+
+    /**
+     * 由打包的位值还原（只保留已定义状态的位）
+     */
+    public static OrderStatusSet fromBits(long bits) {
+        return new OrderStatusSet(bits & ALL.bits);
+    }
+
+    private static long bit(OrderStatus status) {
+        return 1L << status.getCode();
+    }
+
+    /**
+     * 打包的位值,可存储或在服务间传递
+     */
+    public long bits() {
+        return bits;
+    }
+
+    public boolean contains(OrderStatus status) {
+        return (bits & bit(status)) != 0;
+    }
+
+    /**
+     * 是否包含状态代码,未知代码返回false
+     */
+    public boolean containsCode(int code) {
+        return code >= 0 && code < Long.SIZE && (bits & (1L << code)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public OrderStatusSet with(OrderStatus status) {
+        return new OrderStatusSet(bits | bit(status));
+    }
+
+    public OrderStatusSet without(OrderStatus status) {
+        return new OrderStatusSet(bits & ~bit(status));
+    }
+
+    public OrderStatusSet union(OrderStatusSet other) {
+        return new OrderStatusSet(bits | other.bits);
+    }
+
+    public OrderStatusSet intersect(OrderStatusSet other) {
+        return new OrderStatusSet(bits & other.bits);
+    }
+
+    /**
+     * 补集（相对于全部状态）
+     */
+    public OrderStatusSet complement() {
+        return new OrderStatusSet(ALL.bits & ~bits);
+    }
+
+    /**
+     * 状态代码（升序）,用于SQL IN条件
+     */
+    public int[] codes() {
+        int[] codes = new int[size()];
+        long remaining = bits;
+        for (int i = 0; remaining != 0; i++) {
+            codes[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return codes;
+    }
+
+    /**
+     * 状态列表（按代码升序）
+     */
+    public List<OrderStatus> toList() {
+        List<OrderStatus> statuses = new ArrayList<>(size());
+        for (int code : codes()) {
+            statuses.add(OrderStatus.fromCode(code));
+        }
+        return statuses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof OrderStatusSet other && bits == other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hkd.common.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -65,20 +66,36 @@ public enum OrderType {
      */
     POST_ONLY(11, "Post Only");
 
-    private final Integer code;
+    private final int code;
     private final String description;
 
-    OrderType(Integer code, String description) {
+    OrderType(int code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    private static final CodeEnumIndex<OrderType> INDEX = CodeEnumIndex.of(OrderType.class, OrderType::getCode, "OrderType code");
+
     public static OrderType fromCode(Integer code) {
-        for (OrderType type : values()) {
-            if (type.getCode().equals(code)) {
-                return type;
-            }
-        }
-        throw new IllegalArgumentException("Invalid OrderType code: " + code);
+        return INDEX.get(code);
+    }
+
+    public static OrderType fromCode(int code) {
+        return INDEX.get(code);
+    }
+
+    /**
+     * 按代码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public static OrderType fromCodeOrDefault(int code, OrderType defaultValue) {
+        return INDEX.getOrDefault(code, defaultValue);
+    }
+
+    /**
+     * JSON反序列化: 按名称序列化,同时接受代码或数字字符串
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static OrderType fromJson(Object value) {
+        return INDEX.fromJson(value);
     }
 }
@@ -1,5 +1,6 @@
 package com.hkd.common.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -35,20 +36,36 @@ public enum UserStatus {
      */
     DELETED(9, "Deleted");
 
-    private final Integer code;
+    private final int code;
     private final String description;
 
-    UserStatus(Integer code, String description) {
+    UserStatus(int code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    private static final CodeEnumIndex<UserStatus> INDEX = CodeEnumIndex.of(UserStatus.class, UserStatus::getCode, "UserStatus code");
+
     public static UserStatus fromCode(Integer code) {
-        for (UserStatus status : values()) {
-            if (status.getCode().equals(code)) {
-                return status;
-            }
-        }
-        throw new IllegalArgumentException("Invalid UserStatus code: " + code);
+        return INDEX.get(code);
+    }
+
+    public static UserStatus fromCode(int code) {
+        return INDEX.get(code);
+    }
+
+    /**
+     * 按代码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public static UserStatus fromCodeOrDefault(int code, UserStatus defaultValue) {
+        return INDEX.getOrDefault(code, defaultValue);
+    }
+
+    /**
+     * JSON反序列化: 按名称序列化,同时接受代码或数字字符串
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static UserStatus fromJson(Object value) {
+        return INDEX.fromJson(value);
     }
 }
@@ -5,17 +5,23 @@ import lombok.Getter;
 /**
  * 业务异常
  *
+ * 高频拒绝（余额不足、限价、限流等）可使用无堆栈模式: {@link #stackless(ErrorCode)} 不采集堆栈、不记录suppressed异常;
+ * 无数据的场景可直接抛出 {@link #of(ErrorCode)} 返回的按ErrorCode缓存的不可变单例,不分配对象。
+ *
  * @author HKD Team
  */
 @Getter
 public class BusinessException extends RuntimeException {
 
-    private static final long serialVersionUID = 1L;
+    /**
+     * 2: code由Integer改为int
+     */
+    private static final long serialVersionUID = 2L;
 
     /**
      * 错误码
      */
-    private final Integer code;
+    private final int code;
 
     /**
      * 错误消息
@@ -27,6 +33,19 @@ public class BusinessException extends RuntimeException {
      */
     private Object data;
 
+    /**
+     * 按ErrorCode预先构建的无堆栈单例
+     */
+    private static final BusinessException[] CONSTANTS;
+
+    static {
+        ErrorCode[] errorCodes = ErrorCode.values();
+        CONSTANTS = new BusinessException[errorCodes.length];
+        for (ErrorCode errorCode : errorCodes) {
+            CONSTANTS[errorCode.ordinal()] = new BusinessException(errorCode.getCode(), errorCode.getMessage(), null, false);
+        }
+    }
+
     /**
      * 构造函数
      */
@@ -58,7 +77,7 @@ public class BusinessException extends RuntimeException {
     /**
      * 构造函数（自定义错误码和消息）
      */
-    public BusinessException(Integer code, String message) {
+    public BusinessException(int code, String message) {
         super(message);
         this.code = code;
         this.message = message;
@@ -72,4 +91,47 @@ public class BusinessException extends RuntimeException {
         this.code = errorCode.getCode();
         this.message = errorCode.getMessage();
     }
+
+    /**
+     * 构造函数（可关闭堆栈采集）
+     *
+     * @param writableStackTrace false时不采集堆栈、不记录suppressed异常
+     */
+    protected BusinessException(int code, String message, Object data, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.code = code;
+        this.message = message;
+        this.data = data;
+    }
+
+    /**
+     * 无堆栈异常
+     */
+    public static BusinessException stackless(ErrorCode errorCode) {
+        return new BusinessException(errorCode.getCode(), errorCode.getMessage(), null, false);
+    }
+
+    /**
+     * 无堆栈异常（自定义消息）
+     */
+    public static BusinessException stackless(ErrorCode errorCode, String customMessage) {
+        return new BusinessException(errorCode.getCode(), customMessage, null, false);
+    }
+
+    /**
+     * 无堆栈异常（带数据）
+     */
+    public static BusinessException stackless(ErrorCode errorCode, Object data) {
+        return new BusinessException(errorCode.getCode(), errorCode.getMessage(), data, false);
+    }
+
+    /**
+     * 无堆栈常量异常（无数据）
+     *
+     * 返回按ErrorCode缓存的不可变单例,每次抛出不分配对象;cause固定为null,
+     * 调用initCause会抛出IllegalStateException,addSuppressed和setStackTrace不生效。
+     */
+    public static BusinessException of(ErrorCode errorCode) {
+        return CONSTANTS[errorCode.ordinal()];
+    }
 }
@@ -1,5 +1,6 @@
 package com.hkd.common.exception;
 
+import com.hkd.common.enums.CodeEnumIndex;
 import lombok.Getter;
 
 /**
@@ -88,11 +89,32 @@ public enum ErrorCode {
     MESSAGE_QUEUE_ERROR(9004, "Message Queue Error"),
     THIRD_PARTY_API_ERROR(9005, "Third Party API Error");
 
-    private final Integer code;
+    private final int code;
     private final String message;
 
-    ErrorCode(Integer code, String message) {
+    ErrorCode(int code, String message) {
         this.code = code;
         this.message = message;
     }
+
+    /**
+     * 代码跨度 200-9005,按代码下标直接取值
+     */
+    private static final CodeEnumIndex<ErrorCode> INDEX = CodeEnumIndex.of(ErrorCode.class, ErrorCode::getCode, "ErrorCode code");
+
+    /**
+     * 按错误码查找
+     *
+     * @throws IllegalArgumentException 错误码不存在
+     */
+    public static ErrorCode fromCode(int code) {
+        return INDEX.get(code);
+    }
+
+    /**
+     * 按错误码查找,不存在时返回defaultValue（不抛异常）
+     */
+    public static ErrorCode fromCodeOrDefault(int code, ErrorCode defaultValue) {
+        return INDEX.getOrDefault(code, defaultValue);
+    }
 }
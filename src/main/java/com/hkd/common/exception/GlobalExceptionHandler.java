@@ -12,24 +12,62 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 全局异常处理器
  *
+ * 业务拒绝和参数校验失败的WARN日志按错误码限流（{@link RejectionLogLimiter}）,被抑制的条数由其后台线程定期汇总输出,
+ * 容器销毁该Bean时（AutoCloseable）停止后台线程并输出最后一次汇总;
+ * 无数据且使用ErrorCode默认消息的响应直接返回 {@link Result#of} 缓存的常量响应。
+ *
  * @author HKD Team
  */
 @Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler implements AutoCloseable {
+
+    private static final String MESSAGE_SEPARATOR = "; ";
+
+    private final RejectionLogLimiter logLimiter;
+
+    public GlobalExceptionHandler() {
+        this(new RejectionLogLimiter());
+    }
+
+    public GlobalExceptionHandler(RejectionLogLimiter logLimiter) {
+        this.logLimiter = logLimiter;
+    }
+
+    /**
+     * 拒绝日志限流器
+     */
+    public RejectionLogLimiter getLogLimiter() {
+        return logLimiter;
+    }
+
+    @Override
+    public void close() {
+        logLimiter.close();
+    }
 
     /**
      * 业务异常
      */
     @ExceptionHandler(BusinessException.class)
     public Result<?> handleBusinessException(BusinessException e) {
-        log.warn("Business exception: code={}, message={}", e.getCode(), e.getMessage());
-        return Result.error(e.getCode(), e.getMessage(), e.getData());
+        int code = e.getCode();
+        if (logLimiter.tryAcquire(code)) {
+            log.warn("Business exception: code={}, message={}", code, e.getMessage());
+        }
+        if (e.getData() == null) {
+            ErrorCode errorCode = ErrorCode.fromCodeOrDefault(code, null);
+            if (errorCode != null && errorCode.getMessage().equals(e.getMessage())) {
+                return Result.of(errorCode);
+            }
+        }
+        return Result.error(code, e.getMessage(), e.getData());
     }
 
     /**
@@ -38,13 +76,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Result<?> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        String errorMessage = e.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(FieldError::getDefaultMessage)
-                .collect(Collectors.joining("; "));
+        String errorMessage = joinFieldErrors(e.getBindingResult().getFieldErrors());
 
-        log.warn("Validation exception: {}", errorMessage);
+        if (logLimiter.tryAcquire(ErrorCode.VALIDATION_ERROR.getCode())) {
+            log.warn("Validation exception: {}", errorMessage);
+        }
         return Result.error(ErrorCode.VALIDATION_ERROR.getCode(), errorMessage);
     }
 
@@ -54,13 +90,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BindException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Result<?> handleBindException(BindException e) {
-        String errorMessage = e.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(FieldError::getDefaultMessage)
-                .collect(Collectors.joining("; "));
+        String errorMessage = joinFieldErrors(e.getBindingResult().getFieldErrors());
 
-        log.warn("Bind exception: {}", errorMessage);
+        if (logLimiter.tryAcquire(ErrorCode.VALIDATION_ERROR.getCode())) {
+            log.warn("Bind exception: {}", errorMessage);
+        }
         return Result.error(ErrorCode.VALIDATION_ERROR.getCode(), errorMessage);
     }
 
@@ -70,12 +104,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ConstraintViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Result<?> handleConstraintViolationException(ConstraintViolationException e) {
-        String errorMessage = e.getConstraintViolations()
-                .stream()
-                .map(ConstraintViolation::getMessage)
-                .collect(Collectors.joining("; "));
+        String errorMessage = joinViolations(e.getConstraintViolations());
 
-        log.warn("Constraint violation exception: {}", errorMessage);
+        if (logLimiter.tryAcquire(ErrorCode.VALIDATION_ERROR.getCode())) {
+            log.warn("Constraint violation exception: {}", errorMessage);
+        }
         return Result.error(ErrorCode.VALIDATION_ERROR.getCode(), errorMessage);
     }
 
@@ -85,7 +118,9 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Result<?> handleIllegalArgumentException(IllegalArgumentException e) {
-        log.warn("Illegal argument exception: {}", e.getMessage());
+        if (logLimiter.tryAcquire(ErrorCode.PARAM_INVALID.getCode())) {
+            log.warn("Illegal argument exception: {}", e.getMessage());
+        }
         return Result.error(ErrorCode.PARAM_INVALID.getCode(), e.getMessage());
     }
 
@@ -96,7 +131,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Result<?> handleNullPointerException(NullPointerException e) {
         log.error("Null pointer exception", e);
-        return Result.error(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), "Internal Server Error");
+        return Result.of(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
     /**
@@ -106,6 +141,39 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Result<?> handleException(Exception e) {
         log.error("Unexpected exception", e);
-        return Result.error(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), "Internal Server Error");
+        return Result.of(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 拼接字段错误消息（"; "分隔）
+     */
+    private static String joinFieldErrors(List<FieldError> errors) {
+        if (errors.size() == 1) {
+            return String.valueOf(errors.get(0).getDefaultMessage());
+        }
+        StringBuilder sb = new StringBuilder(errors.size() * 32);
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) {
+                sb.append(MESSAGE_SEPARATOR);
+            }
+            sb.append(errors.get(i).getDefaultMessage());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 拼接约束违反消息（"; "分隔）
+     */
+    private static String joinViolations(Set<ConstraintViolation<?>> violations) {
+        StringBuilder sb = new StringBuilder(violations.size() * 32);
+        boolean first = true;
+        for (ConstraintViolation<?> violation : violations) {
+            if (!first) {
+                sb.append(MESSAGE_SEPARATOR);
+            }
+            sb.append(violation.getMessage());
+            first = false;
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,197 @@
+package com.hkd.common.exception;
+
+import com.hkd.common.util.DateUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按错误码限流的拒绝日志
+ *
+ * 每个ErrorCode每个时间窗口内最多输出permitsPerWindow条明细日志,其余只计数;
+ * 窗口切换时（下一次该错误码的拒绝）、后台定期汇总时或调用 {@link #flush()} 时输出一条汇总: 被抑制的条数。
+ * 不在ErrorCode中的自定义错误码共用一个计数槽。计数为近似值,窗口切换瞬间可能多放行少量日志。
+ * 时间窗口按 {@link DateUtil#currentTimeMillis()} 划分,随 DateUtil.setClock 切换时钟。
+ *
+ * 后台守护线程每隔flushInterval调用一次 {@link #flush()},突发结束后残留的计数也会输出;
+ * {@link #close()} 停止后台线程并输出最后一次汇总。
+ *
+ * @author HKD Team
+ */
+@Slf4j
+public class RejectionLogLimiter implements AutoCloseable {
+
+    /**
+     * 默认时间窗口（毫秒）
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 1000L;
+
+    /**
+     * 默认每窗口明细日志条数
+     */
+    public static final int DEFAULT_PERMITS_PER_WINDOW = 5;
+
+    /**
+     * 默认定期汇总间隔（毫秒）
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 10_000L;
+
+    private final long windowMillis;
+
+    private final int permitsPerWindow;
+
+    /**
+     * 按ErrorCode.ordinal()的计数槽,末尾一个槽用于自定义错误码
+     */
+    private final Slot[] slots;
+
+    /**
+     * 定期汇总线程,未启用时为null
+     */
+    private final ScheduledExecutorService scheduler;
+
+    public RejectionLogLimiter() {
+        this(Duration.ofMillis(DEFAULT_WINDOW_MILLIS), DEFAULT_PERMITS_PER_WINDOW,
+                Duration.ofMillis(DEFAULT_FLUSH_INTERVAL_MILLIS));
+    }
+
+    /**
+     * @param window           时间窗口
+     * @param permitsPerWindow 每个错误码每窗口明细日志条数
+     * @param flushInterval    定期汇总间隔,null或0表示不启动后台线程（仅在窗口切换或手动flush时汇总）
+     */
+    public RejectionLogLimiter(Duration window, int permitsPerWindow, Duration flushInterval) {
+        if (window.toMillis() <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        if (permitsPerWindow < 0) {
+            throw new IllegalArgumentException("Permits per window must not be negative: " + permitsPerWindow);
+        }
+        this.windowMillis = window.toMillis();
+        this.permitsPerWindow = permitsPerWindow;
+        ErrorCode[] errorCodes = ErrorCode.values();
+        this.slots = new Slot[errorCodes.length + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(i < errorCodes.length ? errorCodes[i] : null);
+        }
+        if (flushInterval == null || flushInterval.isZero()) {
+            this.scheduler = null;
+        } else {
+            if (flushInterval.isNegative()) {
+                throw new IllegalArgumentException("Flush interval must not be negative: " + flushInterval);
+            }
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "rejection-log-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = flushInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::flushSafely, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 记录一次拒绝,返回是否应输出明细日志
+     */
+    public boolean tryAcquire(int code) {
+        Slot slot = slot(code);
+        slot.total.increment();
+        long window = DateUtil.currentTimeMillis() / windowMillis;
+        long current = slot.window.get();
+        if (window != current && slot.window.compareAndSet(current, window)) {
+            slot.used.set(0);
+            report(slot);
+        }
+        if (slot.used.get() < permitsPerWindow && slot.used.incrementAndGet() <= permitsPerWindow) {
+            return true;
+        }
+        slot.suppressed.increment();
+        return false;
+    }
+
+    /**
+     * 输出所有错误码被抑制日志的汇总并清零
+     */
+    public void flush() {
+        for (Slot slot : slots) {
+            report(slot);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush suppressed business exception logs", e);
+        }
+    }
+
+    /**
+     * 停止定期汇总并输出最后一次汇总
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * 累计拒绝次数（包括被抑制日志的拒绝）
+     */
+    public long count(ErrorCode errorCode) {
+        return slots[errorCode.ordinal()].total.sum();
+    }
+
+    private Slot slot(int code) {
+        ErrorCode errorCode = ErrorCode.fromCodeOrDefault(code, null);
+        return slots[errorCode != null ? errorCode.ordinal() : slots.length - 1];
+    }
+
+    private void report(Slot slot) {
+        long suppressed = slot.suppressed.sumThenReset();
+        if (suppressed > 0) {
+            log.warn("Business exception logs suppressed: code={}, suppressed={}, total={}",
+                    slot.errorCode != null ? slot.errorCode.getCode() : "custom", suppressed, slot.total.sum());
+        }
+    }
+
+    /**
+     * 单个错误码的计数
+     */
+    private static final class Slot {
+
+        private final ErrorCode errorCode;
+
+        /**
+         * 当前窗口序号（时间戳 / windowMillis）
+         */
+        private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * 当前窗口已输出的明细日志条数
+         */
+        private final AtomicInteger used = new AtomicInteger();
+
+        /**
+         * 上次汇总后被抑制的条数
+         */
+        private final LongAdder suppressed = new LongAdder();
+
+        /**
+         * 累计拒绝次数
+         */
+        private final LongAdder total = new LongAdder();
+
+        private Slot(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+        }
+    }
+}
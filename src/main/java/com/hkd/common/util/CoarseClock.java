@@ -0,0 +1,83 @@
+package com.hkd.common.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 粗粒度时钟
+ *
+ * 后台守护线程约每毫秒刷新一次时间戳,读取只是一次volatile读。
+ * 适用于响应时间戳等允许毫秒级误差的高频场景,需要精确时间的地方仍应使用 System.currentTimeMillis()。
+ * 可通过 {@link #INSTANCE} 作为 java.time.Clock 注入 {@link DateUtil#setClock} 或 IdGenerator。
+ *
+ * @author HKD Team
+ */
+public final class CoarseClock extends Clock {
+
+    /**
+     * 刷新间隔（纳秒）
+     */
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static volatile long now = System.currentTimeMillis();
+
+    /**
+     * UTC时区的粗粒度时钟
+     */
+    public static final CoarseClock INSTANCE = new CoarseClock(ZoneOffset.UTC);
+
+    static {
+        Thread ticker = new Thread(CoarseClock::tick, "hkd-coarse-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    private final ZoneId zone;
+
+    private CoarseClock(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * 获取当前时间戳（毫秒,粗粒度）
+     */
+    public static long currentTimeMillis() {
+        return now;
+    }
+
+    @Override
+    public long millis() {
+        return now;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(now);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(zone);
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + zone + "]";
+    }
+
+    private static void tick() {
+        while (true) {
+            now = System.currentTimeMillis();
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+    }
+}
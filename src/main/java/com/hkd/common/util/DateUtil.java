@@ -3,10 +3,17 @@ package com.hkd.common.util;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 日期时间工具类
  *
+ * 当前时间统一取自可替换的时钟（{@link #setClock}）: 默认为系统时钟,高频场景可换成 {@link CoarseClock#INSTANCE},
+ * 测试中可换成 {@link ManualClock} 控制时间。
+ * 以 long 毫秒时间戳为参数的方法（startOfDay(long, ZoneId)、truncateToHour 等）直接做整数运算,
+ * 时区偏移取自按切换区间缓存的偏移量,每次调用不分配对象。
+ * 自定义格式的DateTimeFormatter按 格式+时区 缓存;固定格式（{@link FixedDateTimeFormat}）直接写入数字,不经过DateTimeFormatter。
+ *
  * @author HKD Team
  */
 public class DateUtil {
@@ -25,39 +32,94 @@ public class DateUtil {
     public static final ZoneId UTC_ZONE_ID = ZoneId.of("UTC");
     public static final ZoneId HONG_KONG_ZONE_ID = ZoneId.of("Asia/Hong_Kong");
 
+    public static final long MILLIS_PER_SECOND = 1000L;
+    public static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    public static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    public static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    /**
+     * 香港时区偏移缓存
+     */
+    private static final ZoneOffsetCache HONG_KONG_OFFSETS = ZoneOffsetCache.of(HONG_KONG_ZONE_ID);
+
+    /**
+     * 当前时钟
+     */
+    private static volatile Clock clock = Clock.systemUTC();
+
+    /**
+     * 每个时区最多缓存的格式数,超过后不再缓存（防止动态拼接的格式撑大缓存）
+     */
+    private static final int MAX_CACHED_FORMATTERS = 128;
+
+    /**
+     * 格式 -> DateTimeFormatter
+     */
+    private static final ConcurrentHashMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * 时区 -> 格式 -> DateTimeFormatter
+     */
+    private static final ConcurrentHashMap<ZoneId, ConcurrentHashMap<String, DateTimeFormatter>> ZONED_FORMATTERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 获取当前时钟
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * 替换当前时钟（CoarseClock.INSTANCE: 粗粒度; Clock.systemUTC(): 精确; ManualClock: 测试）
+     */
+    public static void setClock(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        DateUtil.clock = clock;
+    }
+
+    /**
+     * 恢复默认系统时钟
+     */
+    public static void resetClock() {
+        clock = Clock.systemUTC();
+    }
+
     /**
      * 获取当前时间戳（毫秒）
      */
     public static long currentTimeMillis() {
-        return System.currentTimeMillis();
+        return clock.millis();
     }
 
     /**
      * 获取当前时间戳（秒）
      */
     public static long currentTimeSeconds() {
-        return System.currentTimeMillis() / 1000;
+        return clock.millis() / 1000;
     }
 
     /**
      * 获取当前LocalDateTime
      */
     public static LocalDateTime now() {
-        return LocalDateTime.now();
+        return LocalDateTime.ofInstant(clock.instant(), SYSTEM_ZONE_ID);
     }
 
     /**
      * 获取当前UTC时间
      */
     public static LocalDateTime nowUtc() {
-        return LocalDateTime.now(UTC_ZONE_ID);
+        return LocalDateTime.ofInstant(clock.instant(), UTC_ZONE_ID);
     }
 
     /**
      * 获取当前香港时间
      */
     public static LocalDateTime nowHongKong() {
-        return LocalDateTime.now(HONG_KONG_ZONE_ID);
+        return LocalDateTime.ofInstant(clock.instant(), HONG_KONG_ZONE_ID);
     }
 
     /**
@@ -74,10 +136,50 @@ public class DateUtil {
         return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), SYSTEM_ZONE_ID);
     }
 
+    /**
+     * 获取格式对应的DateTimeFormatter（缓存）
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        return cached(FORMATTERS, pattern, null);
+    }
+
+    /**
+     * 获取格式对应的DateTimeFormatter（指定时区,缓存）
+     */
+    public static DateTimeFormatter formatter(String pattern, ZoneId zone) {
+        ConcurrentHashMap<String, DateTimeFormatter> formatters = ZONED_FORMATTERS.get(zone);
+        if (formatters == null) {
+            formatters = ZONED_FORMATTERS.computeIfAbsent(zone, z -> new ConcurrentHashMap<>());
+        }
+        return cached(formatters, pattern, zone);
+    }
+
+    private static DateTimeFormatter cached(ConcurrentHashMap<String, DateTimeFormatter> formatters,
+                                            String pattern, ZoneId zone) {
+        DateTimeFormatter formatter = formatters.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern);
+        if (zone != null) {
+            formatter = formatter.withZone(zone);
+        }
+        if (formatters.size() < MAX_CACHED_FORMATTERS) {
+            DateTimeFormatter existing = formatters.putIfAbsent(pattern, formatter);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return formatter;
+    }
+
     /**
      * LocalDateTime转字符串
      */
     public static String format(LocalDateTime dateTime) {
+        if (FixedDateTimeFormat.supports(dateTime)) {
+            return FixedDateTimeFormat.DATETIME.format(dateTime);
+        }
         return dateTime.format(DATETIME_FORMATTER);
     }
 
@@ -85,35 +187,82 @@ public class DateUtil {
      * LocalDateTime转字符串（自定义格式）
      */
     public static String format(LocalDateTime dateTime, String pattern) {
-        return dateTime.format(DateTimeFormatter.ofPattern(pattern));
+        FixedDateTimeFormat fixed = FixedDateTimeFormat.of(pattern);
+        if (fixed != null && FixedDateTimeFormat.supports(dateTime)) {
+            return fixed.format(dateTime);
+        }
+        return dateTime.format(formatter(pattern));
+    }
+
+    /**
+     * 时间戳（毫秒）转字符串（自定义格式,指定时区）
+     */
+    public static String format(long timestamp, String pattern, ZoneId zone) {
+        return formatter(pattern, zone).format(Instant.ofEpochMilli(timestamp));
+    }
+
+    /**
+     * LocalDateTime格式化写入char数组（yyyy-MM-dd HH:mm:ss,不分配对象）
+     *
+     * @return 写入后的偏移量
+     */
+    public static int formatTo(LocalDateTime dateTime, char[] dest, int offset) {
+        return FixedDateTimeFormat.DATETIME.format(dateTime, dest, offset);
+    }
+
+    /**
+     * LocalDateTime格式化写入byte数组（yyyy-MM-dd HH:mm:ss,ASCII,不分配对象）
+     *
+     * @return 写入后的偏移量
+     */
+    public static int formatTo(LocalDateTime dateTime, byte[] dest, int offset) {
+        return FixedDateTimeFormat.DATETIME.format(dateTime, dest, offset);
     }
 
     /**
      * 字符串转LocalDateTime
      */
     public static LocalDateTime parse(String dateTimeStr) {
-        return LocalDateTime.parse(dateTimeStr, DATETIME_FORMATTER);
+        return FixedDateTimeFormat.DATETIME.parse(dateTimeStr);
     }
 
     /**
      * 字符串转LocalDateTime（自定义格式）
      */
     public static LocalDateTime parse(String dateTimeStr, String pattern) {
-        return LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern(pattern));
+        FixedDateTimeFormat fixed = FixedDateTimeFormat.of(pattern);
+        if (fixed != null) {
+            return fixed.parse(dateTimeStr);
+        }
+        return LocalDateTime.parse(dateTimeStr, formatter(pattern));
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss 字符串转时间戳（毫秒,系统时区,不创建LocalDateTime）
+     */
+    public static long parseTimestamp(CharSequence dateTimeStr) {
+        return FixedDateTimeFormat.DATETIME.parseEpochMillis(dateTimeStr, SYSTEM_ZONE_ID);
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss 字符串转时间戳（毫秒,指定时区,不创建LocalDateTime）
+     */
+    public static long parseTimestamp(CharSequence dateTimeStr, ZoneId zone) {
+        return FixedDateTimeFormat.DATETIME.parseEpochMillis(dateTimeStr, zone);
     }
 
     /**
      * 获取今天开始时间
      */
     public static LocalDateTime startOfToday() {
-        return LocalDate.now().atStartOfDay();
+        return LocalDate.ofInstant(clock.instant(), SYSTEM_ZONE_ID).atStartOfDay();
     }
 
     /**
      * 获取今天结束时间
      */
     public static LocalDateTime endOfToday() {
-        return LocalDate.now().atTime(23, 59, 59, 999999999);
+        return LocalDate.ofInstant(clock.instant(), SYSTEM_ZONE_ID).atTime(23, 59, 59, 999999999);
     }
 
     /**
@@ -187,9 +336,170 @@ public class DateUtil {
     }
 
     /**
-     * 判断是否过期
+     * 判断是否过期（毫秒精度,不创建当前时间的LocalDateTime）
      */
     public static boolean isExpired(LocalDateTime expireTime) {
-        return LocalDateTime.now().isAfter(expireTime);
+        long expireAt = expireTime.toEpochSecond(SYSTEM_ZONE_ID.getRules().getOffset(expireTime)) * 1000L
+                + expireTime.getNano() / 1_000_000;
+        return clock.millis() > expireAt;
+    }
+
+    // ==================== 毫秒时间戳 ====================
+
+    /**
+     * 判断时间戳是否已过期（毫秒）
+     */
+    public static boolean isExpired(long expireAt) {
+        return clock.millis() > expireAt;
+    }
+
+    /**
+     * 判断时间戳是否在 [start, end] 范围内
+     */
+    public static boolean isBetween(long timestamp, long start, long end) {
+        return timestamp >= start && timestamp <= end;
+    }
+
+    /**
+     * 时间戳在指定时区的偏移量（毫秒）
+     */
+    public static long offsetMillis(long timestamp, ZoneId zone) {
+        return ZoneOffsetCache.of(zone).offsetMillis(timestamp);
+    }
+
+    /**
+     * 时间戳对应的本地时间毫秒数（本地时间按UTC解释的毫秒值,可直接做日/时取整运算）
+     */
+    public static long toLocalMillis(long timestamp, ZoneId zone) {
+        return timestamp + offsetMillis(timestamp, zone);
+    }
+
+    /**
+     * 截断到分钟
+     */
+    public static long truncateToMinute(long timestamp) {
+        return Math.floorDiv(timestamp, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * 截断到小时（按UTC对齐,整小时偏移的时区如香港结果相同）
+     */
+    public static long truncateToHour(long timestamp) {
+        return Math.floorDiv(timestamp, MILLIS_PER_HOUR) * MILLIS_PER_HOUR;
+    }
+
+    /**
+     * UTC当天开始时间戳
+     */
+    public static long startOfDayUtc(long timestamp) {
+        return Math.floorDiv(timestamp, MILLIS_PER_DAY) * MILLIS_PER_DAY;
+    }
+
+    /**
+     * UTC当天结束时间戳（次日开始前1毫秒）
+     */
+    public static long endOfDayUtc(long timestamp) {
+        return startOfDayUtc(timestamp) + MILLIS_PER_DAY - 1;
+    }
+
+    /**
+     * 香港时间当天开始时间戳
+     */
+    public static long startOfDayHongKong(long timestamp) {
+        return startOfDay(timestamp, HONG_KONG_OFFSETS, HONG_KONG_ZONE_ID);
+    }
+
+    /**
+     * 香港时间当天结束时间戳（次日开始前1毫秒）
+     */
+    public static long endOfDayHongKong(long timestamp) {
+        return endOfDay(timestamp, HONG_KONG_OFFSETS, HONG_KONG_ZONE_ID);
+    }
+
+    /**
+     * 指定时区当天开始时间戳,与 LocalDate.atStartOfDay(zone) 一致
+     */
+    public static long startOfDay(long timestamp, ZoneId zone) {
+        return startOfDay(timestamp, ZoneOffsetCache.of(zone), zone);
+    }
+
+    /**
+     * 指定时区当天结束时间戳（次日开始前1毫秒）
+     */
+    public static long endOfDay(long timestamp, ZoneId zone) {
+        return endOfDay(timestamp, ZoneOffsetCache.of(zone), zone);
+    }
+
+    /**
+     * 当天开始时间戳; 当天开始与timestamp之间有偏移切换（夏令时切换日）时交给ZoneRules计算
+     */
+    private static long startOfDay(long timestamp, ZoneOffsetCache offsets, ZoneId zone) {
+        ZoneOffsetCache.Window window = offsets.window(timestamp);
+        long day = Math.floorDiv(timestamp + window.offsetMillis, MILLIS_PER_DAY);
+        long start = day * MILLIS_PER_DAY - window.offsetMillis;
+        // 恰好落在切换点上时可能是重叠时段的第二个零点,同样交给ZoneRules
+        if (start > window.startMillis) {
+            return start;
+        }
+        return LocalDate.ofEpochDay(day).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private static long endOfDay(long timestamp, ZoneOffsetCache offsets, ZoneId zone) {
+        ZoneOffsetCache.Window window = offsets.window(timestamp);
+        long day = Math.floorDiv(timestamp + window.offsetMillis, MILLIS_PER_DAY);
+        long next = (day + 1) * MILLIS_PER_DAY - window.offsetMillis;
+        if (next < window.endMillis) {
+            return next - 1;
+        }
+        return LocalDate.ofEpochDay(day + 1).atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+    }
+
+    /**
+     * 两个时间戳之间的天数差（按经过的时长,向零取整）
+     */
+    public static long daysBetween(long start, long end) {
+        return (end - start) / MILLIS_PER_DAY;
+    }
+
+    /**
+     * 两个时间戳之间的小时差
+     */
+    public static long hoursBetween(long start, long end) {
+        return (end - start) / MILLIS_PER_HOUR;
+    }
+
+    /**
+     * 两个时间戳之间的分钟差
+     */
+    public static long minutesBetween(long start, long end) {
+        return (end - start) / MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * 两个时间戳之间的秒差
+     */
+    public static long secondsBetween(long start, long end) {
+        return (end - start) / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * 时间戳增加天数（按24小时计）
+     */
+    public static long plusDays(long timestamp, long days) {
+        return timestamp + days * MILLIS_PER_DAY;
+    }
+
+    /**
+     * 时间戳增加小时
+     */
+    public static long plusHours(long timestamp, long hours) {
+        return timestamp + hours * MILLIS_PER_HOUR;
+    }
+
+    /**
+     * 时间戳增加分钟
+     */
+    public static long plusMinutes(long timestamp, long minutes) {
+        return timestamp + minutes * MILLIS_PER_MINUTE;
     }
 }
@@ -0,0 +1,203 @@
+package com.hkd.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于文件锁的机器ID分配器（单机）
+ *
+ * 每个workerId对应目录下的一个锁文件 worker-{id}.lock,持有文件排他锁即持有该workerId。
+ * 进程退出（包括崩溃）时操作系统自动释放文件锁,因此同一主机上的多个实例无需人工分配workerId。
+ * 续约时校验文件锁仍然有效,并把持有者和到期时间写入锁文件便于排查。
+ *
+ * 锁文件目录必须是同一主机上所有实例共享的路径（如挂载到每个容器的hostPath卷）。
+ * 容器各自私有的目录（如容器内的 /tmp）互不可见,每个实例都会拿到同一个workerId,因此目录没有默认值。
+ * 文件锁只在单机内互斥,跨主机部署需要使用共享存储实现的 {@link WorkerIdAllocator}。
+ *
+ * 文件锁属于进程: 同一进程内关闭该文件的任意一个FileChannel都会释放进程在该文件上的锁（POSIX fcntl语义）。
+ * 因此本进程已持有的锁文件记录在进程级登记表中（按锁文件的规范路径,多个分配器实例共享）,
+ * 分配时先查登记表,不会对已持有的锁文件再打开和关闭第二个FileChannel。
+ *
+ * @author HKD Team
+ */
+@Slf4j
+public class FileLockWorkerIdAllocator implements WorkerIdAllocator {
+
+    /**
+     * 本进程（所有分配器实例）持有的锁文件,按规范路径登记
+     */
+    private static final Set<Path> HELD_FILES = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+
+    private final long minWorkerId;
+
+    private final long maxWorkerId;
+
+    /**
+     * 本进程持有的文件锁
+     */
+    private final Map<Long, HeldLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory 锁文件目录,必须是同一主机上所有实例共享的路径
+     */
+    public FileLockWorkerIdAllocator(Path directory) {
+        this(directory, 0L, IdGenerator.MAX_WORKER_ID);
+    }
+
+    /**
+     * @param directory   锁文件目录,必须是同一主机上所有实例共享的路径
+     * @param minWorkerId 可分配的最小workerId（含）
+     * @param maxWorkerId 可分配的最大workerId（含）
+     */
+    public FileLockWorkerIdAllocator(Path directory, long minWorkerId, long maxWorkerId) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Lock directory must not be null");
+        }
+        if (minWorkerId < 0 || maxWorkerId > IdGenerator.MAX_WORKER_ID || minWorkerId > maxWorkerId) {
+            throw new IllegalArgumentException(String.format(
+                    "Worker ID range must be within 0 and %d", IdGenerator.MAX_WORKER_ID));
+        }
+        this.directory = directory;
+        this.minWorkerId = minWorkerId;
+        this.maxWorkerId = maxWorkerId;
+    }
+
+    @Override
+    public WorkerIdLease acquire(long leaseMillis) {
+        Path canonicalDirectory;
+        try {
+            Files.createDirectories(directory);
+            canonicalDirectory = directory.toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create worker ID lock directory: " + directory, e);
+        }
+
+        String owner = "pid-" + ProcessHandle.current().pid();
+        for (long workerId = minWorkerId; workerId <= maxWorkerId; workerId++) {
+            HeldLock held = tryLock(canonicalDirectory.resolve("worker-" + workerId + ".lock"));
+            if (held == null) {
+                continue;
+            }
+            locks.put(workerId, held);
+            WorkerIdLease lease = new WorkerIdLease(workerId, owner, System.currentTimeMillis() + leaseMillis);
+            writeLeaseInfo(held.lock, lease);
+            log.info("Acquired worker ID lease: {}", lease);
+            return lease;
+        }
+        throw new IllegalStateException(String.format(
+                "No free worker ID between %d and %d in %s", minWorkerId, maxWorkerId, directory));
+    }
+
+    @Override
+    public boolean renew(WorkerIdLease lease, long leaseMillis) {
+        HeldLock held = locks.get(lease.getWorkerId());
+        if (held == null || !held.lock.isValid()) {
+            return false;
+        }
+        lease.extendTo(System.currentTimeMillis() + leaseMillis);
+        writeLeaseInfo(held.lock, lease);
+        return true;
+    }
+
+    @Override
+    public void release(WorkerIdLease lease) {
+        HeldLock held = locks.remove(lease.getWorkerId());
+        if (held == null) {
+            return;
+        }
+        try (FileChannel channel = held.lock.channel()) {
+            held.lock.release();
+        } catch (IOException e) {
+            log.warn("Failed to release worker ID lock: {}", lease, e);
+        } finally {
+            HELD_FILES.remove(held.file);
+        }
+        log.info("Released worker ID lease: {}", lease);
+    }
+
+    /**
+     * 尝试锁定锁文件
+     *
+     * 先在进程级登记表中占位,本进程已持有（包括其他分配器实例持有）时直接跳过,不打开文件;
+     * 占位成功后文件只可能被其他进程锁定,此时关闭本次打开的FileChannel不影响本进程的其他锁。
+     *
+     * @param file 锁文件（规范路径）
+     * @return 持有的文件锁,已被本进程或其他进程持有时返回null
+     */
+    private HeldLock tryLock(Path file) {
+        if (!HELD_FILES.add(file)) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return new HeldLock(file, lock);
+            }
+        } catch (OverlappingFileLockException e) {
+            // 本进程的其他代码（非分配器）已锁定该文件
+            log.warn("Worker ID file already locked outside of allocator: {}", file);
+        } catch (IOException e) {
+            log.warn("Failed to lock worker ID file: {}", file, e);
+        }
+        closeQuietly(channel);
+        HELD_FILES.remove(file);
+        return null;
+    }
+
+    /**
+     * 写入持有者和到期时间（仅供排查,不参与互斥）
+     */
+    private void writeLeaseInfo(FileLock lock, WorkerIdLease lease) {
+        byte[] bytes = (lease.getOwner() + " " + lease.getExpireAt() + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            FileChannel channel = lock.channel();
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(bytes), 0);
+        } catch (IOException e) {
+            log.warn("Failed to write worker ID lease info: {}", lease, e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * 持有的锁文件及其文件锁
+     */
+    private static final class HeldLock {
+
+        private final Path file;
+
+        private final FileLock lock;
+
+        private HeldLock(Path file, FileLock lock) {
+            this.file = file;
+            this.lock = lock;
+        }
+    }
+}
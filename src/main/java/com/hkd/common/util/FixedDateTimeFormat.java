@@ -0,0 +1,389 @@
+package com.hkd.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 定长日期时间格式
+ *
+ * 对应 {@link DateUtil} 中声明的固定格式,直接把数字写入 char[] / byte[] / StringBuilder,
+ * 不经过 DateTimeFormatter,也不产生中间对象。输出与对应的JDK格式化器一致;
+ * 只支持年份 1-9999（超出时JDK输出会变长,这里抛出DateTimeException）。
+ *
+ * 解析直接从 CharSequence / byte[] 读取数字,得到 LocalDateTime 或毫秒时间戳,不经过 TemporalAccessor/Parsed。
+ * 非数字、长度不符或字段越界的输入交给JDK格式化器处理,因此拒绝方式（DateTimeParseException）
+ * 和SMART模式下的容错结果（如 2023-02-29 按月末处理）都与 DateTimeFormatter 完全一致。
+ *
+ * - DATETIME: yyyy-MM-dd HH:mm:ss
+ * - DATE: yyyy-MM-dd
+ * - TIME: HH:mm:ss
+ * - DATETIME_COMPACT: yyyyMMddHHmmss
+ *
+ * @author HKD Team
+ */
+public enum FixedDateTimeFormat {
+
+    DATETIME(DateUtil.DATETIME_PATTERN),
+
+    DATE(DateUtil.DATE_PATTERN),
+
+    TIME(DateUtil.TIME_PATTERN),
+
+    DATETIME_COMPACT(DateUtil.DATETIME_COMPACT_PATTERN);
+
+    /**
+     * 格式模板（分隔符位置已填好,数字位置为占位符）
+     */
+    private final byte[] template;
+
+    private final String pattern;
+
+    private final DateTimeFormatter formatter;
+
+    /**
+     * 是否同时包含日期和时间（只有这样才能解析为LocalDateTime）
+     */
+    private final boolean dateTime;
+
+    private final int yearPos;
+    private final int monthPos;
+    private final int dayPos;
+    private final int hourPos;
+    private final int minutePos;
+    private final int secondPos;
+
+    FixedDateTimeFormat(String pattern) {
+        this.pattern = pattern;
+        this.template = pattern.getBytes(StandardCharsets.US_ASCII);
+        this.yearPos = pattern.indexOf("yyyy");
+        this.monthPos = pattern.indexOf("MM");
+        this.dayPos = pattern.indexOf("dd");
+        this.hourPos = pattern.indexOf("HH");
+        this.minutePos = pattern.indexOf("mm");
+        this.secondPos = pattern.indexOf("ss");
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        this.dateTime = yearPos >= 0 && secondPos >= 0;
+    }
+
+    /**
+     * 格式模式
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * 输出长度
+     */
+    public int width() {
+        return template.length;
+    }
+
+    /**
+     * 查找模式对应的定长格式
+     *
+     * @return 不是定长格式时返回null
+     */
+    public static FixedDateTimeFormat of(String pattern) {
+        for (FixedDateTimeFormat format : values()) {
+            if (format.pattern.equals(pattern)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 年份是否在定长格式支持范围内
+     */
+    public static boolean supports(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * 格式化为字符串
+     */
+    public String format(LocalDateTime dateTime) {
+        byte[] bytes = new byte[template.length];
+        format(dateTime, bytes, 0);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 格式化写入byte数组（ASCII）
+     *
+     * @return 写入后的偏移量
+     */
+    public int format(LocalDateTime dateTime, byte[] dest, int offset) {
+        checkYear(dateTime);
+        System.arraycopy(template, 0, dest, offset, template.length);
+        if (yearPos >= 0) {
+            int year = dateTime.getYear();
+            put2(dest, offset + yearPos, year / 100);
+            put2(dest, offset + yearPos + 2, year % 100);
+        }
+        if (monthPos >= 0) {
+            put2(dest, offset + monthPos, dateTime.getMonthValue());
+        }
+        if (dayPos >= 0) {
+            put2(dest, offset + dayPos, dateTime.getDayOfMonth());
+        }
+        if (hourPos >= 0) {
+            put2(dest, offset + hourPos, dateTime.getHour());
+        }
+        if (minutePos >= 0) {
+            put2(dest, offset + minutePos, dateTime.getMinute());
+        }
+        if (secondPos >= 0) {
+            put2(dest, offset + secondPos, dateTime.getSecond());
+        }
+        return offset + template.length;
+    }
+
+    /**
+     * 格式化写入char数组
+     *
+     * @return 写入后的偏移量
+     */
+    public int format(LocalDateTime dateTime, char[] dest, int offset) {
+        checkYear(dateTime);
+        for (int i = 0; i < template.length; i++) {
+            dest[offset + i] = (char) template[i];
+        }
+        if (yearPos >= 0) {
+            int year = dateTime.getYear();
+            put2(dest, offset + yearPos, year / 100);
+            put2(dest, offset + yearPos + 2, year % 100);
+        }
+        if (monthPos >= 0) {
+            put2(dest, offset + monthPos, dateTime.getMonthValue());
+        }
+        if (dayPos >= 0) {
+            put2(dest, offset + dayPos, dateTime.getDayOfMonth());
+        }
+        if (hourPos >= 0) {
+            put2(dest, offset + hourPos, dateTime.getHour());
+        }
+        if (minutePos >= 0) {
+            put2(dest, offset + minutePos, dateTime.getMinute());
+        }
+        if (secondPos >= 0) {
+            put2(dest, offset + secondPos, dateTime.getSecond());
+        }
+        return offset + template.length;
+    }
+
+    /**
+     * 格式化追加到StringBuilder
+     */
+    public StringBuilder format(LocalDateTime dateTime, StringBuilder dest) {
+        checkYear(dateTime);
+        int start = dest.length();
+        dest.setLength(start + template.length);
+        for (int i = 0; i < template.length; i++) {
+            dest.setCharAt(start + i, (char) template[i]);
+        }
+        if (yearPos >= 0) {
+            int year = dateTime.getYear();
+            put2(dest, start + yearPos, year / 100);
+            put2(dest, start + yearPos + 2, year % 100);
+        }
+        if (monthPos >= 0) {
+            put2(dest, start + monthPos, dateTime.getMonthValue());
+        }
+        if (dayPos >= 0) {
+            put2(dest, start + dayPos, dateTime.getDayOfMonth());
+        }
+        if (hourPos >= 0) {
+            put2(dest, start + hourPos, dateTime.getHour());
+        }
+        if (minutePos >= 0) {
+            put2(dest, start + minutePos, dateTime.getMinute());
+        }
+        if (secondPos >= 0) {
+            put2(dest, start + secondPos, dateTime.getSecond());
+        }
+        return dest;
+    }
+
+    /**
+     * 解析为LocalDateTime
+     *
+     * @throws DateTimeParseException 格式非法（与DateTimeFormatter一致）
+     */
+    public LocalDateTime parse(CharSequence text) {
+        if (dateTime && text.length() == template.length) {
+            long fields = parseFields(text);
+            if (fields >= 0) {
+                return toLocalDateTime(fields);
+            }
+        }
+        return LocalDateTime.parse(text, formatter);
+    }
+
+    /**
+     * 从byte数组（ASCII）解析为LocalDateTime,读取 {@link #width()} 个字节
+     *
+     * @throws DateTimeParseException 格式非法（与DateTimeFormatter一致）
+     */
+    public LocalDateTime parse(byte[] src, int offset) {
+        if (dateTime && offset >= 0 && offset + template.length <= src.length) {
+            long fields = parseFields(src, offset);
+            if (fields >= 0) {
+                return toLocalDateTime(fields);
+            }
+        }
+        return LocalDateTime.parse(fallbackText(src, offset), formatter);
+    }
+
+    /**
+     * 解析为毫秒时间戳（指定时区）
+     *
+     * @throws DateTimeParseException 格式非法（与DateTimeFormatter一致）
+     */
+    public long parseEpochMillis(CharSequence text, ZoneId zone) {
+        if (dateTime && text.length() == template.length) {
+            long fields = parseFields(text);
+            if (fields >= 0) {
+                return toEpochMillis(fields, zone);
+            }
+        }
+        return LocalDateTime.parse(text, formatter).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 从byte数组（ASCII）解析为毫秒时间戳（指定时区）,读取 {@link #width()} 个字节
+     *
+     * @throws DateTimeParseException 格式非法（与DateTimeFormatter一致）
+     */
+    public long parseEpochMillis(byte[] src, int offset, ZoneId zone) {
+        if (dateTime && offset >= 0 && offset + template.length <= src.length) {
+            long fields = parseFields(src, offset);
+            if (fields >= 0) {
+                return toEpochMillis(fields, zone);
+            }
+        }
+        return LocalDateTime.parse(fallbackText(src, offset), formatter).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 读取各字段并打包为 秒(6位) | 分(6位) | 时(5位) | 日(5位) | 月(4位) | 年(14位);
+     * 分隔符不符、非数字或字段越界时返回-1
+     */
+    private long parseFields(CharSequence text) {
+        for (int i = 0; i < template.length; i++) {
+            char c = text.charAt(i);
+            if (isDigitSlot(i) ? c < '0' || c > '9' : c != template[i]) {
+                return -1L;
+            }
+        }
+        return packFields(digits(text, yearPos) * 100 + digits(text, yearPos + 2), digits(text, monthPos),
+                digits(text, dayPos), digits(text, hourPos), digits(text, minutePos), digits(text, secondPos));
+    }
+
+    private long parseFields(byte[] src, int offset) {
+        for (int i = 0; i < template.length; i++) {
+            byte b = src[offset + i];
+            if (isDigitSlot(i) ? b < '0' || b > '9' : b != template[i]) {
+                return -1L;
+            }
+        }
+        return packFields(digits(src, offset + yearPos) * 100 + digits(src, offset + yearPos + 2),
+                digits(src, offset + monthPos), digits(src, offset + dayPos), digits(src, offset + hourPos),
+                digits(src, offset + minutePos), digits(src, offset + secondPos));
+    }
+
+    private boolean isDigitSlot(int i) {
+        byte t = template[i];
+        return t == 'y' || t == 'M' || t == 'd' || t == 'H' || t == 'm' || t == 's';
+    }
+
+    private static long packFields(int year, int month, int day, int hour, int minute, int second) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return -1L;
+        }
+        return ((long) second << 34) | ((long) minute << 28) | ((long) hour << 23)
+                | ((long) day << 18) | ((long) month << 14) | year;
+    }
+
+    private static LocalDateTime toLocalDateTime(long fields) {
+        return LocalDateTime.of((int) (fields & 0x3FFF), (int) (fields >>> 14) & 0xF, (int) (fields >>> 18) & 0x1F,
+                (int) (fields >>> 23) & 0x1F, (int) (fields >>> 28) & 0x3F, (int) (fields >>> 34) & 0x3F);
+    }
+
+    private static long toEpochMillis(long fields, ZoneId zone) {
+        int year = (int) (fields & 0x3FFF);
+        int month = (int) (fields >>> 14) & 0xF;
+        int day = (int) (fields >>> 18) & 0x1F;
+        long seconds = epochDay(year, month, day) * 86_400L
+                + ((fields >>> 23) & 0x1F) * 3600L + ((fields >>> 28) & 0x3F) * 60L + ((fields >>> 34) & 0x3F);
+        ZoneOffset offset = zone instanceof ZoneOffset fixed
+                ? fixed
+                : zone.getRules().isFixedOffset()
+                ? zone.getRules().getOffset(Instant.EPOCH)
+                : zone.getRules().getOffset(toLocalDateTime(fields));
+        return (seconds - offset.getTotalSeconds()) * 1000L;
+    }
+
+    /**
+     * 公历日期距1970-01-01的天数
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097L + doe - 719_468L;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static int digits(CharSequence text, int pos) {
+        return (text.charAt(pos) - '0') * 10 + (text.charAt(pos + 1) - '0');
+    }
+
+    private static int digits(byte[] src, int pos) {
+        return (src[pos] - '0') * 10 + (src[pos + 1] - '0');
+    }
+
+    private String fallbackText(byte[] src, int offset) {
+        int start = Math.max(0, Math.min(offset, src.length));
+        int length = Math.min(template.length, src.length - start);
+        return new String(src, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void checkYear(LocalDateTime dateTime) {
+        if (!supports(dateTime)) {
+            throw new DateTimeException("Year out of fixed-width range: " + dateTime.getYear());
+        }
+    }
+
+    private static void put2(byte[] dest, int pos, int value) {
+        dest[pos] = (byte) ('0' + value / 10);
+        dest[pos + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static void put2(char[] dest, int pos, int value) {
+        dest[pos] = (char) ('0' + value / 10);
+        dest[pos + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void put2(StringBuilder dest, int pos, int value) {
+        dest.setCharAt(pos, (char) ('0' + value / 10));
+        dest.setCharAt(pos + 1, (char) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,231 @@
+package com.hkd.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ID定长编码
+ *
+ * 把64位ID（按无符号数处理）编码为定长字符串,字母表按ASCII升序排列且左侧补零,
+ * 因此编码结果的字典序与ID数值顺序一致,可直接用作Kafka key、日志字段等有序字符串。
+ * 编码直接写入 byte[] / ByteBuffer / StringBuilder,不产生中间对象。
+ *
+ * - BASE62: 11位, 0-9A-Za-z
+ * - CROCKFORD_BASE32: 13位, Crockford Base32（解码时不区分大小写,I/L按1、O按0处理）
+ * - HEX: 16位, 小写十六进制（解码时不区分大小写）
+ *
+ * @author HKD Team
+ */
+public enum IdEncoding {
+
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", 11, 0),
+
+    CROCKFORD_BASE32("0123456789ABCDEFGHJKMNPQRSTVWXYZ", 13, 5),
+
+    HEX("0123456789abcdef", 16, 4);
+
+    /**
+     * 无符号除以62时不会溢出的最大值
+     */
+    private static final long BASE62_LIMIT = Long.divideUnsigned(-1L, 62);
+
+    /**
+     * 编码到StringBuilder和堆外ByteBuffer时的线程复用缓冲区（不小于最大编码长度）
+     */
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[16]);
+
+    /**
+     * 字母表
+     */
+    private final byte[] digits;
+
+    /**
+     * 字符到数值的映射（-1表示非法字符）
+     */
+    private final byte[] values = new byte[128];
+
+    /**
+     * 编码长度
+     */
+    private final int width;
+
+    /**
+     * 每位的位数（0表示非2的幂进制,即BASE62）
+     */
+    private final int shift;
+
+    /**
+     * 首位允许的最大值+1（超出即超过64位）
+     */
+    private final int firstDigitLimit;
+
+    IdEncoding(String alphabet, int width, int shift) {
+        this.digits = alphabet.getBytes(StandardCharsets.US_ASCII);
+        this.width = width;
+        this.shift = shift;
+        this.firstDigitLimit = shift == 0
+                ? digits.length
+                : Math.min(digits.length, 1 << (64 - (width - 1) * shift));
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < digits.length; i++) {
+            values[digits[i]] = (byte) i;
+            if (shift > 0) {
+                values[Character.toLowerCase(digits[i])] = (byte) i;
+                values[Character.toUpperCase(digits[i])] = (byte) i;
+            }
+        }
+        if (shift == 5) {
+            values['O'] = values['o'] = 0;
+            values['I'] = values['i'] = values['L'] = values['l'] = 1;
+        }
+    }
+
+    /**
+     * 编码长度
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * 编码为字符串
+     */
+    public String encode(long id) {
+        byte[] bytes = new byte[width];
+        encode(id, bytes, 0);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 编码写入byte数组
+     *
+     * @return 写入后的偏移量
+     */
+    public int encode(long id, byte[] dest, int offset) {
+        encodeDigits(id, dest, offset);
+        return offset + width;
+    }
+
+    /**
+     * 编码写入ByteBuffer（从position开始,写入后position前移）
+     */
+    public void encode(long id, ByteBuffer dest) {
+        int position = dest.position();
+        if (dest.hasArray()) {
+            encodeDigits(id, dest.array(), dest.arrayOffset() + position);
+        } else {
+            byte[] scratch = SCRATCH.get();
+            encodeDigits(id, scratch, 0);
+            dest.put(position, scratch, 0, width);
+        }
+        dest.position(position + width);
+    }
+
+    /**
+     * 编码追加到StringBuilder
+     */
+    public StringBuilder encode(long id, StringBuilder dest) {
+        byte[] scratch = SCRATCH.get();
+        encodeDigits(id, scratch, 0);
+        int start = dest.length();
+        dest.setLength(start + width);
+        for (int i = 0; i < width; i++) {
+            dest.setCharAt(start + i, (char) scratch[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * 按定长写入各位数字（低位在右,左侧补零）
+     */
+    private void encodeDigits(long id, byte[] dest, int offset) {
+        long v = id;
+        for (int i = offset + width - 1; i >= offset; i--) {
+            int digit;
+            if (shift > 0) {
+                digit = (int) (v & (digits.length - 1));
+                v >>>= shift;
+            } else if (v < 0) {
+                long q = Long.divideUnsigned(v, 62);
+                digit = (int) (v - q * 62);
+                v = q;
+            } else {
+                digit = (int) (v % 62);
+                v /= 62;
+            }
+            dest[i] = digits[digit];
+        }
+    }
+
+    /**
+     * 解码字符串
+     *
+     * @throws IllegalArgumentException 长度不符、包含非法字符或超出64位
+     */
+    public long decode(CharSequence str) {
+        if (str == null || str.length() != width) {
+            throw new IllegalArgumentException(invalid(str));
+        }
+        long v = 0L;
+        for (int i = 0; i < width; i++) {
+            v = accumulate(v, i, digitValue(str.charAt(i)), str);
+        }
+        return v;
+    }
+
+    /**
+     * 从byte数组解码
+     */
+    public long decode(byte[] src, int offset) {
+        if (offset < 0 || offset + width > src.length) {
+            throw new IllegalArgumentException("Insufficient bytes for " + name() + " id at offset " + offset);
+        }
+        long v = 0L;
+        for (int i = 0; i < width; i++) {
+            v = accumulate(v, i, digitValue((char) (src[offset + i] & 0xFF)), null);
+        }
+        return v;
+    }
+
+    /**
+     * 从ByteBuffer解码（从position开始,解码成功后position前移;失败时不改变position）
+     */
+    public long decode(ByteBuffer src) {
+        if (src.remaining() < width) {
+            throw new IllegalArgumentException("Insufficient bytes for " + name() + " id");
+        }
+        int position = src.position();
+        long v = 0L;
+        for (int i = 0; i < width; i++) {
+            v = accumulate(v, i, digitValue((char) (src.get(position + i) & 0xFF)), null);
+        }
+        src.position(position + width);
+        return v;
+    }
+
+    private int digitValue(char c) {
+        return c < 128 ? values[c] : -1;
+    }
+
+    private long accumulate(long v, int index, int digit, CharSequence source) {
+        if (digit < 0 || (index == 0 && digit >= firstDigitLimit)) {
+            throw new IllegalArgumentException(invalid(source));
+        }
+        if (shift > 0) {
+            return (v << shift) | digit;
+        }
+        if (Long.compareUnsigned(v, BASE62_LIMIT) > 0) {
+            throw new IllegalArgumentException(invalid(source));
+        }
+        long next = v * 62 + digit;
+        if (Long.compareUnsigned(next, v * 62) < 0) {
+            throw new IllegalArgumentException(invalid(source));
+        }
+        return next;
+    }
+
+    private String invalid(CharSequence source) {
+        return "Invalid " + name() + " id: " + (source != null ? source : "<bytes>");
+    }
+}
@@ -2,6 +2,18 @@ package com.hkd.common.util;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * 分布式ID生成器 (Snowflake算法)
  *
@@ -13,6 +25,15 @@ import lombok.extern.slf4j.Slf4j;
  * - 机器ID: 10位,支持1024个节点
  * - 序列号: 12位,每毫秒可生成4096个ID
  *
+ * 支持两种生成模式（见 {@link Mode}）:
+ * - SYNCHRONIZED: 互斥锁保护时间戳和序列号（默认）
+ * - LOCK_FREE: 时间戳和序列号打包在一个AtomicLong中,通过CAS推进,高并发下无锁竞争
+ * - THREAD_LOCAL: 12位序列号拆分为 槽位号 + 槽内序列号,每个线程独占一个槽位,生成ID无共享写
+ *
+ * 时钟回拨按 {@link ClockBackwardsPolicy} 处理,回拨幅度超过容忍上限时仍拒绝生成。
+ * 序列号用尽时挂起等待下一毫秒,不再自旋占用CPU。
+ * 时间取自构建时指定的 {@link Clock}（默认系统时钟）,测试中可注入 {@link ManualClock} 控制时间顺序和回拨。
+ *
  * @author HKD Team
  */
 @Slf4j
@@ -36,7 +57,7 @@ public class IdGenerator {
     /**
      * 最大机器ID (1024-1)
      */
-    private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
 
     /**
      * 最大序列号 (4096-1)
@@ -53,20 +74,178 @@ public class IdGenerator {
      */
     private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 
+    /**
+     * ID可表示的最大时间戳
+     */
+    private static final long MAX_TIMESTAMP = EPOCH + (Long.MAX_VALUE >>> TIMESTAMP_SHIFT);
+
+    /**
+     * 同一毫秒内 机器ID + 序列号 部分的最大值
+     */
+    private static final long MAX_LOW_BITS = ~(-1L << TIMESTAMP_SHIFT);
+
+    /**
+     * 默认时钟回拨容忍上限（毫秒）
+     */
+    public static final long DEFAULT_MAX_BACKWARDS_MILLIS = 5000L;
+
+    /**
+     * 等待下一毫秒时每次挂起的时长（纳秒）
+     */
+    private static final long PARK_NANOS = 100_000L;
+
+    /**
+     * 预占结果: 改用备用机器ID生成
+     */
+    private static final long USE_BACKUP = -1L;
+
+    /**
+     * THREAD_LOCAL模式默认槽位位数（16个槽位,每槽每毫秒256个ID,单线程每毫秒最多512个）
+     */
+    public static final int DEFAULT_THREAD_SLOT_BITS = 4;
+
+    /**
+     * 机器ID默认租约时长（毫秒）
+     */
+    public static final long DEFAULT_LEASE_MILLIS = 30_000L;
+
+    /**
+     * 生成模式
+     */
+    public enum Mode {
+
+        /**
+         * 互斥锁模式
+         */
+        SYNCHRONIZED,
+
+        /**
+         * 无锁模式（CAS推进打包状态字）
+         */
+        LOCK_FREE,
+
+        /**
+         * 线程槽位模式
+         *
+         * 序列号高位作为槽位号,槽位0为共享槽（无锁CAS）,其余槽位由线程独占。
+         * 线程首次生成ID时领取空闲槽位（或已终止线程留下的槽位,连同其时间戳和序列号一并继承）,
+         * 之后在槽内生成ID不再有任何共享写;槽位领完的线程（如大量虚拟线程）退回共享槽。
+         * 同一毫秒内ID按槽位排列,整体仍大致按时间递增,parse*解析结果不变。
+         *
+         * 每个槽位每毫秒只有 2^(12-threadSlotBits) 个序列号（默认256）。线程槽位在当前毫秒用尽后,
+         * 剩余部分从共享槽预占;共享槽也用尽时才挂起等待下一毫秒。因此单线程每毫秒上限为
+         * 独占槽位加上与其他线程争用的共享槽,即最多 2 * 2^(12-threadSlotBits) 个（默认512）,
+         * 低于另两种模式的4096。单线程需要高突发量时应减小threadSlotBits或使用LOCK_FREE模式。
+         */
+        THREAD_LOCAL
+    }
+
+    /**
+     * 时钟回拨处理策略
+     */
+    public enum ClockBackwardsPolicy {
+
+        /**
+         * 拒绝生成,抛出异常
+         */
+        REJECT,
+
+        /**
+         * 借用逻辑时钟: 沿用上次时间戳继续分配,序列号用尽时逻辑时钟前进1毫秒
+         */
+        LOGICAL_CLOCK,
+
+        /**
+         * 挂起等待时钟追上上次时间戳
+         */
+        PARK,
+
+        /**
+         * 切换到预留的备用机器ID生成,直到时钟追上
+         */
+        BACKUP_WORKER
+    }
+
     /**
      * 机器ID
      */
     private final long workerId;
 
     /**
-     * 序列号
+     * 机器ID左移后的位段（组装ID时直接或运算）
+     */
+    private final long workerBits;
+
+    /**
+     * 生成模式
+     */
+    private final Mode mode;
+
+    /**
+     * 无锁模式状态字: (时间戳 - EPOCH) << SEQUENCE_BITS | 序列号（最后一个已占用的ID）
+     * THREAD_LOCAL模式下作为共享槽（槽位0）的状态字
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 槽内序列号掩码（非THREAD_LOCAL模式即MAX_SEQUENCE）
+     */
+    private final long sequenceMask;
+
+    /**
+     * 互斥锁模式的状态槽
+     */
+    private final Slot lockedSlot = new Slot(0L);
+
+    /**
+     * THREAD_LOCAL模式的线程槽位（下标0为共享槽,不分配给线程）
+     */
+    private final Slot[] threadSlots;
+
+    /**
+     * 当前线程持有的槽位,null表示使用共享槽
+     */
+    private final ThreadLocal<Slot> localSlot;
+
+    /**
+     * 时钟回拨处理策略
+     */
+    private final ClockBackwardsPolicy clockBackwardsPolicy;
+
+    /**
+     * 时钟回拨容忍上限（毫秒）,超过时无论何种策略都拒绝生成
+     */
+    private final long maxBackwardsMillis;
+
+    /**
+     * 备用机器ID生成器（仅BACKUP_WORKER策略）
+     */
+    private final IdGenerator backup;
+
+    /**
+     * 机器ID租约（由WorkerIdAllocator分配时非空）
+     */
+    private final WorkerIdLease lease;
+
+    /**
+     * 时钟
      */
-    private long sequence = 0L;
+    private final Clock clock;
 
     /**
-     * 上次生成ID的时间戳
+     * 检测到时钟回拨的次数（按回拨事件计数）
      */
-    private long lastTimestamp = -1L;
+    private final LongAdder clockBackwardsCount = new LongAdder();
+
+    /**
+     * 共享状态字（LOCK_FREE模式及THREAD_LOCAL共享槽）上次生成时时钟是否落后
+     */
+    private final AtomicBoolean sharedBehind = new AtomicBoolean();
+
+    /**
+     * 序列号用尽等待下一毫秒的次数
+     */
+    private final LongAdder sequenceOverflowCount = new LongAdder();
 
     /**
      * 单例实例（默认workerId=0）
@@ -77,29 +256,136 @@ public class IdGenerator {
      * 构造函数
      */
     public IdGenerator(long workerId) {
+        this(workerId, Mode.SYNCHRONIZED);
+    }
+
+    /**
+     * 构造函数（指定生成模式）
+     */
+    public IdGenerator(long workerId, Mode mode) {
+        this(workerId, mode, ClockBackwardsPolicy.LOGICAL_CLOCK, DEFAULT_MAX_BACKWARDS_MILLIS, -1L,
+                DEFAULT_THREAD_SLOT_BITS, null, Clock.systemUTC());
+    }
+
+    /**
+     * 构造函数（完整配置,见 {@link Builder}）
+     */
+    private IdGenerator(long workerId, Mode mode, ClockBackwardsPolicy clockBackwardsPolicy,
+                        long maxBackwardsMillis, long backupWorkerId, int threadSlotBits,
+                        WorkerIdLease lease, Clock clock) {
+        checkWorkerId(workerId);
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode must not be null");
+        }
+        if (clockBackwardsPolicy == null) {
+            throw new IllegalArgumentException("Clock backwards policy must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        if (maxBackwardsMillis < 0) {
+            throw new IllegalArgumentException("Max backwards millis must not be negative");
+        }
+        if (threadSlotBits < 1 || threadSlotBits >= SEQUENCE_BITS) {
+            throw new IllegalArgumentException(
+                    String.format("Thread slot bits must be between 1 and %d", SEQUENCE_BITS - 1));
+        }
+        if (clockBackwardsPolicy == ClockBackwardsPolicy.BACKUP_WORKER) {
+            checkWorkerId(backupWorkerId);
+            if (backupWorkerId == workerId) {
+                throw new IllegalArgumentException("Backup worker ID must differ from worker ID");
+            }
+            // 备用生成器自身回拨时借用逻辑时钟,避免再次失败
+            this.backup = new IdGenerator(backupWorkerId, mode, ClockBackwardsPolicy.LOGICAL_CLOCK,
+                    maxBackwardsMillis, -1L, threadSlotBits, null, clock);
+        } else {
+            this.backup = null;
+        }
+        this.workerId = workerId;
+        this.workerBits = workerId << WORKER_ID_SHIFT;
+        this.mode = mode;
+        this.clockBackwardsPolicy = clockBackwardsPolicy;
+        this.maxBackwardsMillis = maxBackwardsMillis;
+        this.lease = lease;
+        this.clock = clock;
+        if (mode == Mode.THREAD_LOCAL) {
+            long slotSequenceBits = SEQUENCE_BITS - threadSlotBits;
+            this.sequenceMask = ~(-1L << slotSequenceBits);
+            this.threadSlots = new Slot[1 << threadSlotBits];
+            for (int i = 1; i < threadSlots.length; i++) {
+                threadSlots[i] = new Slot((long) i << slotSequenceBits);
+            }
+            this.localSlot = ThreadLocal.withInitial(this::claimSlot);
+        } else {
+            this.sequenceMask = MAX_SEQUENCE;
+            this.threadSlots = null;
+            this.localSlot = null;
+        }
+        log.info("IdGenerator initialized with workerId: {}, mode: {}, clockBackwardsPolicy: {}",
+                workerId, mode, clockBackwardsPolicy);
+    }
+
+    /**
+     * 创建构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static void checkWorkerId(long workerId) {
         if (workerId > MAX_WORKER_ID || workerId < 0) {
             throw new IllegalArgumentException(
                     String.format("Worker ID must be between 0 and %d", MAX_WORKER_ID));
         }
-        this.workerId = workerId;
-        log.info("IdGenerator initialized with workerId: {}", workerId);
     }
 
     /**
      * 获取单例实例
+     *
+     * 优先使用通过SPI注册的 {@link WorkerIdAllocator} 分配workerId;
+     * 未注册时退回workerId=0,多实例部署应注册分配器或显式指定workerId。
      */
     public static IdGenerator getInstance() {
         if (instance == null) {
             synchronized (IdGenerator.class) {
                 if (instance == null) {
-                    // 默认使用workerId=0,生产环境应该从配置中获取
-                    instance = new IdGenerator(0);
+                    Iterator<WorkerIdAllocator> allocators = ServiceLoader.load(WorkerIdAllocator.class).iterator();
+                    if (allocators.hasNext()) {
+                        instance = create(allocators.next(), DEFAULT_LEASE_MILLIS);
+                    } else {
+                        log.warn("No WorkerIdAllocator registered, IdGenerator falls back to workerId=0");
+                        instance = new IdGenerator(0);
+                    }
                 }
             }
         }
         return instance;
     }
 
+    /**
+     * 获取单例实例（由分配器按租约分配workerId）
+     */
+    public static IdGenerator getInstance(WorkerIdAllocator allocator) {
+        if (instance == null) {
+            synchronized (IdGenerator.class) {
+                if (instance == null) {
+                    instance = create(allocator, DEFAULT_LEASE_MILLIS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 获取租约并创建IdGenerator,后台续约直到JVM退出
+     */
+    private static IdGenerator create(WorkerIdAllocator allocator, long leaseMillis) {
+        WorkerIdLease lease = allocator.acquire(leaseMillis);
+        WorkerIdLeaseKeeper keeper = new WorkerIdLeaseKeeper(allocator, lease, leaseMillis);
+        Runtime.getRuntime().addShutdownHook(new Thread(keeper::close, "worker-id-lease-release"));
+        return builder().lease(lease).build();
+    }
+
     /**
      * 获取单例实例（指定workerId）
      */
@@ -117,34 +403,209 @@ public class IdGenerator {
     /**
      * 生成下一个ID
      */
-    public synchronized long nextId() {
+    public long nextId() {
+        checkLease();
+        long start = reserve(1);
+        return start == USE_BACKUP ? backup.nextId() : toId(start);
+    }
+
+    /**
+     * 批量生成ID
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + n);
+        }
+        long[] ids = new long[n];
+        nextIds(ids);
+        return ids;
+    }
+
+    /**
+     * 批量生成ID并填充到数组
+     *
+     * 每次预占当前毫秒内一段连续的序列号区间,同一区间内的ID直接递增填充;
+     * 当前毫秒的序列号（THREAD_LOCAL模式下为槽内序列号）用尽后,剩余部分顺延到下一毫秒继续预占。
+     */
+    public void nextIds(long[] dest) {
+        checkLease();
+        fill(dest, 0);
+    }
+
+    /**
+     * 从指定位置开始填充ID
+     */
+    private void fill(long[] dest, int filled) {
+        while (filled < dest.length) {
+            int remaining = dest.length - filled;
+            long start = reserve(remaining);
+            if (start == USE_BACKUP) {
+                backup.fill(dest, filled);
+                return;
+            }
+            int granted = grantedCount(start, remaining);
+            long id = toId(start);
+            for (int i = 0; i < granted; i++) {
+                dest[filled++] = id + i;
+            }
+        }
+    }
+
+    /**
+     * 预占序列号区间
+     *
+     * @param count 期望数量
+     * @return 区间起点状态字 ((时间戳 - EPOCH) << SEQUENCE_BITS | 序列号),
+     *         实际占用数量为 {@link #grantedCount(long, int)};
+     *         返回 {@link #USE_BACKUP} 表示应改用备用机器ID生成
+     */
+    private long reserve(int count) {
+        switch (mode) {
+            case LOCK_FREE:
+                return reserveLockFree(count);
+            case THREAD_LOCAL:
+                Slot slot = localSlot.get();
+                return slot != null ? reserveInSlot(slot, count) : reserveLockFree(count);
+            default:
+                return reserveSynchronized(count);
+        }
+    }
+
+    /**
+     * 互斥锁模式预占序列号区间
+     */
+    private synchronized long reserveSynchronized(int count) {
+        return reserveInSlot(lockedSlot, count);
+    }
+
+    /**
+     * 在槽位内预占序列号区间（调用方保证对槽位的独占访问）
+     */
+    private long reserveInSlot(Slot slot, int count) {
         long timestamp = currentTimeMillis();
 
         // 时钟回拨检测
-        if (timestamp < lastTimestamp) {
-            long offset = lastTimestamp - timestamp;
-            throw new RuntimeException(
-                    String.format("Clock moved backwards. Refusing to generate id for %d milliseconds", offset));
+        if (timestamp < slot.lastTimestamp) {
+            boolean detected = !slot.behind;
+            slot.behind = true;
+            timestamp = onClockBackwards(slot.lastTimestamp, timestamp, detected);
+            if (timestamp == USE_BACKUP) {
+                return USE_BACKUP;
+            }
+        } else if (slot.behind) {
+            slot.behind = false;
         }
 
-        // 同一毫秒内
-        if (timestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            // 序列号溢出,等待下一毫秒
-            if (sequence == 0) {
-                timestamp = waitNextMillis(lastTimestamp);
+        long start;
+        if (timestamp == slot.lastTimestamp) {
+            if (slot.sequence < sequenceMask) {
+                // 同一毫秒内
+                start = slot.sequence + 1;
+            } else if (mode == Mode.THREAD_LOCAL) {
+                // 线程槽位用尽,本毫秒剩余部分改从共享槽预占,不挂起等待
+                return reserveLockFree(count);
+            } else {
+                // 序列号溢出,等待下一毫秒
+                timestamp = waitNextMillis(slot.lastTimestamp);
+                start = 0L;
             }
         } else {
             // 新的毫秒,重置序列号
-            sequence = 0L;
+            start = 0L;
+        }
+
+        long startState = ((timestamp - EPOCH) << SEQUENCE_BITS) | slot.base | start;
+        slot.sequence = start + grantedCount(startState, count) - 1;
+        slot.lastTimestamp = timestamp;
+        return startState;
+    }
+
+    /**
+     * 为当前线程领取槽位
+     *
+     * 已终止线程的槽位可被回收: 线程终止与isAlive()返回false之间存在happens-before,
+     * 新持有者能看到原线程写入的时间戳和序列号,不会产生重复ID。
+     *
+     * @return 领取到的槽位,槽位用尽时返回null
+     */
+    private Slot claimSlot() {
+        synchronized (threadSlots) {
+            for (int i = 1; i < threadSlots.length; i++) {
+                Slot slot = threadSlots[i];
+                if (slot.owner == null || !slot.owner.isAlive()) {
+                    slot.owner = Thread.currentThread();
+                    return slot;
+                }
+            }
         }
+        log.debug("IdGenerator thread slots exhausted, falling back to shared slot");
+        return null;
+    }
+
+    /**
+     * 无锁模式预占序列号区间
+     *
+     * 读取状态字后计算区间,CAS成功即占用该区间。状态字记录最后一个已占用的(时间戳, 序列号)。
+     * 观察到的时间戳大于本线程读到的时钟时,可能只是其他线程先读到了更新的毫秒,
+     * 因此重新读取时钟后仍然落后才判定为时钟回拨。
+     */
+    private long reserveLockFree(int count) {
+        long timestamp = currentTimeMillis() - EPOCH;
+        boolean behind = false;
+        while (true) {
+            long current = state.get();
+            long lastTs = current >>> SEQUENCE_BITS;
+
+            if (timestamp < lastTs) {
+                timestamp = currentTimeMillis() - EPOCH;
+                if (timestamp < lastTs) {
+                    behind = true;
+                    boolean detected = sharedBehind.compareAndSet(false, true);
+                    long resolved = onClockBackwards(lastTs + EPOCH, timestamp + EPOCH, detected);
+                    if (resolved == USE_BACKUP) {
+                        return USE_BACKUP;
+                    }
+                    timestamp = resolved - EPOCH;
+                }
+            }
+
+            long start;
+            if (timestamp > lastTs) {
+                // 新的毫秒,序列号从0开始
+                start = timestamp << SEQUENCE_BITS;
+            } else if ((current & sequenceMask) < sequenceMask) {
+                // 同一毫秒内
+                start = current + 1;
+            } else {
+                // 序列号溢出,等待下一毫秒后重试
+                timestamp = waitNextMillis(lastTs + EPOCH) - EPOCH;
+                continue;
+            }
 
-        lastTimestamp = timestamp;
+            if (state.compareAndSet(current, start + grantedCount(start, count) - 1)) {
+                if (!behind && sharedBehind.get()) {
+                    // 时钟已追上,本次回拨事件结束
+                    sharedBehind.set(false);
+                }
+                return start;
+            }
+        }
+    }
 
-        // 组装ID
-        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
-                | sequence;
+    /**
+     * 区间起点所在毫秒（槽位）内实际可占用的数量
+     */
+    private int grantedCount(long startState, int count) {
+        return (int) Math.min(count, sequenceMask + 1 - (startState & sequenceMask));
+    }
+
+    /**
+     * 状态字组装为ID
+     */
+    private long toId(long packed) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                | workerBits
+                | (packed & MAX_SEQUENCE);
     }
 
     /**
@@ -154,22 +615,114 @@ public class IdGenerator {
         return String.valueOf(nextId());
     }
 
+    /**
+     * 生成定长编码的字符串ID（字典序与数值顺序一致）
+     */
+    public String nextIdStr(IdEncoding encoding) {
+        return encoding.encode(nextId());
+    }
+
+    /**
+     * 租约失效或已过期时拒绝生成,避免与新持有该workerId的实例产生重复ID
+     *
+     * 续约线程被饿死或长时间GC停顿时租约可能已过期而尚未被标记失效,共享存储的分配器此时可能已把
+     * 该workerId分给其他实例,因此同时按系统时间校验到期时间（与续约使用同一时间源）。
+     */
+    private void checkLease() {
+        if (lease != null && (lease.isRevoked() || lease.isExpired(System.currentTimeMillis()))) {
+            throw new IllegalStateException("Worker ID lease lost: " + lease);
+        }
+    }
+
+    /**
+     * 获取机器ID
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 获取时钟回拨处理策略
+     */
+    public ClockBackwardsPolicy getClockBackwardsPolicy() {
+        return clockBackwardsPolicy;
+    }
+
+    /**
+     * 获取检测到时钟回拨的次数
+     *
+     * 按回拨事件计数: 时钟落后期间（LOGICAL_CLOCK借用、BACKUP_WORKER切换、PARK等待或REJECT拒绝）的多次生成只计一次,
+     * 时钟追上后再次回拨重新计数。THREAD_LOCAL模式下各槽位分别检测,同一次回拨可能按槽位计多次。
+     */
+    public long getClockBackwardsCount() {
+        return clockBackwardsCount.sum();
+    }
+
+    /**
+     * 获取序列号用尽等待下一毫秒的次数
+     */
+    public long getSequenceOverflowCount() {
+        return sequenceOverflowCount.sum();
+    }
+
     /**
      * 等待下一毫秒
+     *
+     * 序列号用尽时挂起等待时钟前进。若当前正处于LOGICAL_CLOCK借用状态（时钟仍落后于上次时间戳）,
+     * 且借用幅度未超过容忍上限,则直接借用下一毫秒。
      */
     private long waitNextMillis(long lastTimestamp) {
+        sequenceOverflowCount.increment();
         long timestamp = currentTimeMillis();
         while (timestamp <= lastTimestamp) {
+            if (clockBackwardsPolicy == ClockBackwardsPolicy.LOGICAL_CLOCK
+                    && timestamp < lastTimestamp
+                    && lastTimestamp + 1 - timestamp <= maxBackwardsMillis) {
+                return lastTimestamp + 1;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
             timestamp = currentTimeMillis();
         }
         return timestamp;
     }
 
+    /**
+     * 处理时钟回拨
+     *
+     * @param lastTimestamp 上次生成ID的时间戳
+     * @param timestamp     当前时钟
+     * @param detected      是否为本次回拨的首次检测（时钟此前未落后）,只有首次检测计入回拨次数
+     * @return 继续分配使用的时间戳（不小于lastTimestamp）,或 {@link #USE_BACKUP}
+     */
+    private long onClockBackwards(long lastTimestamp, long timestamp, boolean detected) {
+        if (detected) {
+            clockBackwardsCount.increment();
+        }
+        long offset = lastTimestamp - timestamp;
+        if (clockBackwardsPolicy == ClockBackwardsPolicy.REJECT || offset > maxBackwardsMillis) {
+            log.error("Clock moved backwards by {} ms, policy: {}", offset, clockBackwardsPolicy);
+            throw new IllegalStateException(
+                    String.format("Clock moved backwards. Refusing to generate id for %d milliseconds", offset));
+        }
+        switch (clockBackwardsPolicy) {
+            case LOGICAL_CLOCK:
+                return lastTimestamp;
+            case PARK:
+                while (timestamp < lastTimestamp) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lastTimestamp - timestamp));
+                    timestamp = currentTimeMillis();
+                }
+                return timestamp;
+            default:
+                return USE_BACKUP;
+        }
+    }
+
     /**
      * 获取当前时间戳
      */
     private long currentTimeMillis() {
-        return System.currentTimeMillis();
+        return clock.millis();
     }
 
     /**
@@ -192,4 +745,201 @@ public class IdGenerator {
     public static long parseSequence(long id) {
         return id & MAX_SEQUENCE;
     }
+
+    /**
+     * 指定毫秒内可能生成的最小ID
+     *
+     * ID高位即时间戳,因此按时间查询可改写为主键范围扫描: id BETWEEN minIdForTime(start) AND maxIdForTime(end)。
+     * 早于EPOCH时返回0,超出41位时间范围时返回最大ID。
+     */
+    public static long minIdForTime(long timestamp) {
+        if (timestamp <= EPOCH) {
+            return 0L;
+        }
+        if (timestamp >= MAX_TIMESTAMP) {
+            return (MAX_TIMESTAMP - EPOCH) << TIMESTAMP_SHIFT;
+        }
+        return (timestamp - EPOCH) << TIMESTAMP_SHIFT;
+    }
+
+    /**
+     * 指定时间点所在毫秒内可能生成的最小ID
+     */
+    public static long minIdForTime(Instant instant) {
+        return minIdForTime(instant.toEpochMilli());
+    }
+
+    /**
+     * 指定毫秒内可能生成的最大ID
+     *
+     * 早于EPOCH时返回-1（与minIdForTime组成空区间）,超出41位时间范围时返回Long.MAX_VALUE。
+     */
+    public static long maxIdForTime(long timestamp) {
+        if (timestamp < EPOCH) {
+            return -1L;
+        }
+        if (timestamp >= MAX_TIMESTAMP) {
+            return Long.MAX_VALUE;
+        }
+        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT) | MAX_LOW_BITS;
+    }
+
+    /**
+     * 指定时间点所在毫秒内可能生成的最大ID
+     */
+    public static long maxIdForTime(Instant instant) {
+        return maxIdForTime(instant.toEpochMilli());
+    }
+
+    /**
+     * 时间区间 [from, to]（含两端所在毫秒）对应的ID范围
+     */
+    public static IdRange idRange(Instant from, Instant to) {
+        return new IdRange(minIdForTime(from), maxIdForTime(to));
+    }
+
+    /**
+     * 指定日期（系统时区）对应的ID范围
+     */
+    public static IdRange idRangeFor(LocalDate date) {
+        return idRangeFor(date, DateUtil.SYSTEM_ZONE_ID);
+    }
+
+    /**
+     * 指定日期（指定时区）对应的ID范围,日期边界取自 {@link DateUtil#startOfDay} / {@link DateUtil#endOfDay}
+     */
+    public static IdRange idRangeFor(LocalDate date, ZoneId zone) {
+        return idRange(DateUtil.startOfDay(date).atZone(zone).toInstant(),
+                DateUtil.endOfDay(date).atZone(zone).toInstant());
+    }
+
+    /**
+     * IdGenerator构建器
+     */
+    public static class Builder {
+
+        private long workerId;
+        private Mode mode = Mode.SYNCHRONIZED;
+        private ClockBackwardsPolicy clockBackwardsPolicy = ClockBackwardsPolicy.LOGICAL_CLOCK;
+        private long maxBackwardsMillis = DEFAULT_MAX_BACKWARDS_MILLIS;
+        private long backupWorkerId = -1L;
+        private int threadSlotBits = DEFAULT_THREAD_SLOT_BITS;
+        private WorkerIdLease lease;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * 机器ID (0-1023)
+         */
+        public Builder workerId(long workerId) {
+            this.workerId = workerId;
+            return this;
+        }
+
+        /**
+         * 生成模式,默认SYNCHRONIZED
+         */
+        public Builder mode(Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * 时钟回拨处理策略,默认LOGICAL_CLOCK
+         */
+        public Builder clockBackwardsPolicy(ClockBackwardsPolicy clockBackwardsPolicy) {
+            this.clockBackwardsPolicy = clockBackwardsPolicy;
+            return this;
+        }
+
+        /**
+         * 时钟回拨容忍上限（毫秒）,默认5000
+         */
+        public Builder maxBackwardsMillis(long maxBackwardsMillis) {
+            this.maxBackwardsMillis = maxBackwardsMillis;
+            return this;
+        }
+
+        /**
+         * 备用机器ID（BACKUP_WORKER策略必填,需在集群内预留,不得分配给其他实例）
+         */
+        public Builder backupWorkerId(long backupWorkerId) {
+            this.backupWorkerId = backupWorkerId;
+            return this;
+        }
+
+        /**
+         * THREAD_LOCAL模式槽位位数 (1-11),默认4; 槽位数为2^bits（含1个共享槽）,每槽每毫秒2^(12-bits)个ID,
+         * 单线程每毫秒最多2^(13-bits)个（独占槽位用尽后借用共享槽）
+         */
+        public Builder threadSlotBits(int threadSlotBits) {
+            this.threadSlotBits = threadSlotBits;
+            return this;
+        }
+
+        /**
+         * 机器ID租约,workerId取自租约;租约失效后拒绝生成ID
+         */
+        public Builder lease(WorkerIdLease lease) {
+            this.lease = lease;
+            this.workerId = lease.getWorkerId();
+            return this;
+        }
+
+        /**
+         * 时钟,默认系统时钟（测试中可注入ManualClock）
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public IdGenerator build() {
+            return new IdGenerator(workerId, mode, clockBackwardsPolicy, maxBackwardsMillis, backupWorkerId,
+                    threadSlotBits, lease, clock);
+        }
+    }
+
+    /**
+     * 序列号状态槽
+     *
+     * 前后填充缓存行,避免相邻线程槽位之间的伪共享。
+     */
+    private static final class Slot {
+
+        long p01, p02, p03, p04, p05, p06, p07;
+
+        /**
+         * 槽位号左移后的序列号高位
+         */
+        final long base;
+
+        /**
+         * 上次生成ID的时间戳
+         */
+        long lastTimestamp = -1L;
+
+        /**
+         * 槽内序列号（最后一个已占用的）
+         */
+        long sequence = 0L;
+
+        /**
+         * 上次生成时时钟是否落后于lastTimestamp（用于按回拨事件计数）
+         */
+        boolean behind;
+
+        /**
+         * 持有线程（由threadSlots锁保护）
+         */
+        Thread owner;
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        Slot(long base) {
+            this.base = base;
+        }
+    }
 }
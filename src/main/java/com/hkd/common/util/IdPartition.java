@@ -0,0 +1,101 @@
+package com.hkd.common.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 按ID时间戳的分区键
+ *
+ * 分区键直接从Snowflake ID的时间戳位计算,不需要读取created_at列:
+ * - DAILY: yyyyMMdd,如 20240101
+ * - MONTHLY: yyyyMM,如 202401
+ *
+ * {@link #range(int)} 返回分区对应的ID范围,可用于建立按主键的RANGE分区或分表路由。
+ * 未指定时区时按UTC划分,保证各节点计算结果一致。
+ *
+ * @author HKD Team
+ */
+public enum IdPartition {
+
+    DAILY {
+        @Override
+        int key(LocalDate date) {
+            return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+        }
+
+        @Override
+        LocalDate firstDay(int key) {
+            return LocalDate.of(key / 10000, key / 100 % 100, key % 100);
+        }
+
+        @Override
+        LocalDate lastDay(int key) {
+            return firstDay(key);
+        }
+    },
+
+    MONTHLY {
+        @Override
+        int key(LocalDate date) {
+            return date.getYear() * 100 + date.getMonthValue();
+        }
+
+        @Override
+        LocalDate firstDay(int key) {
+            return LocalDate.of(key / 100, key % 100, 1);
+        }
+
+        @Override
+        LocalDate lastDay(int key) {
+            LocalDate first = firstDay(key);
+            return first.withDayOfMonth(first.lengthOfMonth());
+        }
+    };
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    abstract int key(LocalDate date);
+
+    abstract LocalDate firstDay(int key);
+
+    abstract LocalDate lastDay(int key);
+
+    /**
+     * 计算ID所属分区（UTC）
+     */
+    public int key(long id) {
+        long timestamp = IdGenerator.parseTimestamp(id);
+        return key(LocalDate.ofEpochDay(Math.floorDiv(timestamp, MILLIS_PER_DAY)));
+    }
+
+    /**
+     * 计算ID所属分区（指定时区）
+     */
+    public int key(long id, ZoneId zone) {
+        if (zone == ZoneOffset.UTC) {
+            return key(id);
+        }
+        return key(LocalDate.ofInstant(Instant.ofEpochMilli(IdGenerator.parseTimestamp(id)), zone));
+    }
+
+    /**
+     * 分区对应的ID范围（UTC）
+     *
+     * @throws java.time.DateTimeException 分区键非法
+     */
+    public IdRange range(int key) {
+        return range(key, ZoneOffset.UTC);
+    }
+
+    /**
+     * 分区对应的ID范围（指定时区）
+     *
+     * @throws java.time.DateTimeException 分区键非法
+     */
+    public IdRange range(int key, ZoneId zone) {
+        return new IdRange(IdGenerator.idRangeFor(firstDay(key), zone).getMinId(),
+                IdGenerator.idRangeFor(lastDay(key), zone).getMaxId());
+    }
+}
@@ -0,0 +1,48 @@
+package com.hkd.common.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * ID闭区间 [minId, maxId]
+ *
+ * 由 {@link IdGenerator#idRange} / {@link IdGenerator#idRangeFor} 按时间计算,
+ * 用于把按创建时间的查询改写为主键范围扫描: WHERE id BETWEEN #{minId} AND #{maxId}。
+ *
+ * @author HKD Team
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class IdRange {
+
+    /**
+     * 最小ID（含）
+     */
+    private final long minId;
+
+    /**
+     * 最大ID（含）
+     */
+    private final long maxId;
+
+    public IdRange(long minId, long maxId) {
+        this.minId = minId;
+        this.maxId = maxId;
+    }
+
+    /**
+     * 是否为空区间
+     */
+    public boolean isEmpty() {
+        return minId > maxId;
+    }
+
+    /**
+     * 是否包含指定ID
+     */
+    public boolean contains(long id) {
+        return id >= minId && id <= maxId;
+    }
+}
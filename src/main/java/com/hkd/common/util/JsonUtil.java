@@ -1,31 +1,222 @@
 package com.hkd.common.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 /**
  * JSON工具类
  *
+ * 默认使用标准配置（{@link Profile#STANDARD}）;热点调用点可按需选择 {@link Profile#ACCELERATED},
+ * 通过Blackbird模块以LambdaMetafactory生成的访问器代替反射读写属性,输出与标准配置逐字节一致。
+ * 全局配置通过 {@link #configure(Consumer)} 修改,修改后重建缓存的Reader/Writer;
+ * {@link #getObjectMapper()} 返回共享实例,仅供读取（readTree、convertValue等）,
+ * 需要在其基础上定制的ObjectMapper请使用 {@link #copyObjectMapper()}。
+ *
  * @author HKD Team
  */
 @Slf4j
 public class JsonUtil {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    /**
+     * ObjectMapper配置档
+     */
+    public enum Profile {
+
+        /**
+         * 标准配置（反射访问属性）
+         */
+        STANDARD,
+
+        /**
+         * 加速配置: 标准配置 + Blackbird模块（首次使用时初始化）
+         *
+         * jackson-module-blackbird为可选依赖,使用方需自行引入,否则使用时抛出IllegalStateException
+         */
+        ACCELERATED
+    }
+
+    /**
+     * 线程复用输出缓冲区保留的最大容量,超过后下次使用时重新分配,避免长期占用大块内存
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 线程复用输出缓冲区
+     */
+    private static final ThreadLocal<ReusableByteArrayOutputStream> REUSABLE_BUFFER =
+            ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
+
+    /**
+     * 按类型缓存的泛型ObjectReader数量上限,超过后不再缓存（Class类型不受限,见 {@link Mappers}）
+     */
+    private static final int MAX_CACHED_GENERIC_READERS = 512;
+
+    /**
+     * 标准配置的Reader/Writer缓存,配置修改时整体替换
+     */
+    private static volatile Mappers standard = new Mappers(createObjectMapper());
+
+    /**
+     * 加速配置的Reader/Writer缓存,首次使用时由标准配置派生,标准配置修改时重置
+     */
+    private static volatile Mappers accelerated;
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
 
-    static {
         // 注册Java 8时间模块
-        OBJECT_MAPPER.registerModule(new JavaTimeModule());
+        mapper.registerModule(new JavaTimeModule());
 
         // 配置
-        OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        OBJECT_MAPPER.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        OBJECT_MAPPER.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        return mapper;
+    }
+
+    /**
+     * 修改全局ObjectMapper配置
+     *
+     * 在当前配置的副本上执行customizer,完成后替换标准配置并重建两种配置档的Reader/Writer缓存;
+     * 之前通过 {@link #reader}/{@link #writer}/{@link #getObjectMapper()} 取得并长期持有的实例仍保持旧配置。
+     * 用于替代通过 getObjectMapper() 直接修改共享实例的旧用法。
+     */
+    public static void configure(Consumer<ObjectMapper> customizer) {
+        synchronized (JsonUtil.class) {
+            ObjectMapper mapper = standard.mapper.copy();
+            customizer.accept(mapper);
+            standard = new Mappers(mapper);
+            accelerated = null;
+        }
+    }
+
+    /**
+     * 获取指定类型的ObjectReader
+     *
+     * 按类型缓存并预取根反序列化器,省去每次调用时的JavaType解析和反序列化器查找。
+     * 返回的ObjectReader线程安全,调用方可长期持有;读取流时不关闭流。
+     */
+    public static ObjectReader reader(Class<?> clazz) {
+        return standard.reader(clazz);
+    }
+
+    /**
+     * 获取指定泛型类型的ObjectReader
+     */
+    public static ObjectReader reader(TypeReference<?> typeReference) {
+        return standard.reader(typeReference.getType());
+    }
+
+    /**
+     * 获取指定配置档、指定类型的ObjectReader
+     */
+    public static ObjectReader reader(Profile profile, Class<?> clazz) {
+        return mappers(profile).reader(clazz);
+    }
+
+    /**
+     * 获取指定配置档、指定泛型类型的ObjectReader
+     */
+    public static ObjectReader reader(Profile profile, TypeReference<?> typeReference) {
+        return mappers(profile).reader(typeReference.getType());
+    }
+
+    /**
+     * 获取指定类型的ObjectWriter
+     *
+     * 按类型缓存并预取根序列化器。值的运行时类型应与clazz一致,子类值请使用其自身类型获取;
+     * 返回的ObjectWriter线程安全,调用方可长期持有;写入流时不关闭流。
+     */
+    public static ObjectWriter writer(Class<?> clazz) {
+        return standard.writer(clazz);
+    }
+
+    /**
+     * 获取指定配置档、指定类型的ObjectWriter
+     */
+    public static ObjectWriter writer(Profile profile, Class<?> clazz) {
+        return mappers(profile).writer(clazz);
+    }
+
+    /**
+     * 按值的运行时类型获取ObjectWriter
+     */
+    private static ObjectWriter writerFor(Object obj) {
+        return standard.writerFor(obj);
+    }
+
+    private static Mappers mappers(Profile profile) {
+        if (profile != Profile.ACCELERATED) {
+            return standard;
+        }
+        Mappers mappers = accelerated;
+        if (mappers == null) {
+            synchronized (JsonUtil.class) {
+                mappers = accelerated;
+                if (mappers == null) {
+                    try {
+                        mappers = Accelerator.create(standard.mapper);
+                    } catch (NoClassDefFoundError e) {
+                        throw new IllegalStateException("Profile.ACCELERATED requires com.fasterxml.jackson.module:"
+                                + "jackson-module-blackbird on the classpath", e);
+                    }
+                    accelerated = mappers;
+                }
+            }
+        }
+        return mappers;
+    }
+
+    /**
+     * 对象转JSON字符串（指定配置档）
+     */
+    public static String toJson(Object obj, Profile profile) {
+        if (obj == null) {
+            return null;
+        }
+        try {
+            return mappers(profile).writerFor(obj).writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to convert object to JSON: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON serialization failed", e);
+        }
+    }
+
+    /**
+     * JSON字符串转对象（指定配置档）
+     */
+    public static <T> T fromJson(String json, Class<T> clazz, Profile profile) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return mappers(profile).reader(clazz).readValue(json);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON deserialization failed", e);
+        }
     }
 
     /**
@@ -36,7 +227,7 @@ public class JsonUtil {
             return null;
         }
         try {
-            return OBJECT_MAPPER.writeValueAsString(obj);
+            return writerFor(obj).writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error("Failed to convert object to JSON: {}", e.getMessage(), e);
             throw new RuntimeException("JSON serialization failed", e);
@@ -51,7 +242,7 @@ public class JsonUtil {
             return null;
         }
         try {
-            return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+            return standard.prettyWriter.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error("Failed to convert object to pretty JSON: {}", e.getMessage(), e);
             throw new RuntimeException("JSON serialization failed", e);
@@ -66,7 +257,7 @@ public class JsonUtil {
             return null;
         }
         try {
-            return OBJECT_MAPPER.readValue(json, clazz);
+            return reader(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
             throw new RuntimeException("JSON deserialization failed", e);
@@ -81,7 +272,7 @@ public class JsonUtil {
             return null;
         }
         try {
-            return OBJECT_MAPPER.readValue(json, typeReference);
+            return reader(typeReference).readValue(json);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
             throw new RuntimeException("JSON deserialization failed", e);
@@ -89,9 +280,306 @@ public class JsonUtil {
     }
 
     /**
-     * 获取ObjectMapper实例
+     * 对象转JSON字节数组（UTF-8）
+     */
+    public static byte[] toJsonBytes(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+        try {
+            return writerFor(obj).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to convert object to JSON: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON serialization failed", e);
+        }
+    }
+
+    /**
+     * 对象转JSON写入输出流（写入后不关闭流）
+     */
+    public static void toJson(Object obj, OutputStream out) {
+        try {
+            writerFor(obj).writeValue(out, obj);
+        } catch (IOException e) {
+            log.error("Failed to write object as JSON: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON serialization failed", e);
+        }
+    }
+
+    /**
+     * 对象转JSON写入ByteBuffer（从position开始,写入后position前移）
+     *
+     * @throws java.nio.BufferOverflowException 剩余空间不足
+     */
+    public static void toJson(Object obj, ByteBuffer buffer) {
+        toJson(obj, new ByteBufferBackedOutputStream(buffer));
+    }
+
+    /**
+     * 对象转JSON写入线程复用缓冲区
+     *
+     * 同一线程反复序列化时复用同一块byte[],不再每次分配新的缓冲区。
+     * 返回的只读视图指向复用缓冲区,仅在当前线程下一次调用前有效,需要保留时应自行拷贝;
+     * 适合序列化后立即写出的场景（如Kafka发送、Netty写出）。
+     */
+    public static ByteBuffer toJsonBuffer(Object obj) {
+        ReusableByteArrayOutputStream buffer = REUSABLE_BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new ReusableByteArrayOutputStream();
+            REUSABLE_BUFFER.set(buffer);
+        }
+        buffer.reset();
+        toJson(obj, buffer);
+        return buffer.toByteBuffer();
+    }
+
+    /**
+     * JSON字节数组转对象
+     */
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        return fromJson(json, 0, json.length, clazz);
+    }
+
+    /**
+     * JSON字节数组（指定区间）转对象
+     */
+    public static <T> T fromJson(byte[] json, int offset, int length, Class<T> clazz) {
+        if (json == null || length == 0) {
+            return null;
+        }
+        try {
+            return reader(clazz).readValue(json, offset, length);
+        } catch (IOException e) {
+            log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON deserialization failed", e);
+        }
+    }
+
+    /**
+     * JSON字节数组转对象（支持泛型）
+     */
+    public static <T> T fromJson(byte[] json, TypeReference<T> typeReference) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try {
+            return reader(typeReference).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON deserialization failed", e);
+        }
+    }
+
+    /**
+     * ByteBuffer转对象（读取position到limit之间的全部字节,读取后position移到limit）
+     */
+    public static <T> T fromJson(ByteBuffer json, Class<T> clazz) {
+        if (json == null || !json.hasRemaining()) {
+            return null;
+        }
+        if (json.hasArray()) {
+            T value = fromJson(json.array(), json.arrayOffset() + json.position(), json.remaining(), clazz);
+            json.position(json.limit());
+            return value;
+        }
+        return fromJson(new ByteBufferBackedInputStream(json), clazz);
+    }
+
+    /**
+     * ByteBuffer转对象（支持泛型）
+     */
+    public static <T> T fromJson(ByteBuffer json, TypeReference<T> typeReference) {
+        if (json == null || !json.hasRemaining()) {
+            return null;
+        }
+        return fromJson(new ByteBufferBackedInputStream(json), typeReference);
+    }
+
+    /**
+     * 输入流转对象（读取后不关闭流）
+     */
+    public static <T> T fromJson(InputStream json, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON deserialization failed", e);
+        }
+    }
+
+    /**
+     * 输入流转对象（支持泛型,读取后不关闭流）
+     */
+    public static <T> T fromJson(InputStream json, TypeReference<T> typeReference) {
+        try {
+            return reader(typeReference).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to parse JSON to object: {}", e.getMessage(), e);
+            throw new RuntimeException("JSON deserialization failed", e);
+        }
+    }
+
+    /**
+     * 获取当前配置的共享ObjectMapper
+     *
+     * 返回JsonUtil内部使用的实例,应视为只读。通过返回值修改配置（registerModule、configure等）的用法已废弃:
+     * 修改不会进入已缓存的Reader/Writer,请改用 {@link #configure(Consumer)};
+     * 需要可修改的实例请使用 {@link #copyObjectMapper()}。
      */
     public static ObjectMapper getObjectMapper() {
-        return OBJECT_MAPPER;
+        return standard.mapper;
+    }
+
+    /**
+     * 获取指定配置档当前配置的共享ObjectMapper（只读,同 {@link #getObjectMapper()}）
+     */
+    public static ObjectMapper getObjectMapper(Profile profile) {
+        return mappers(profile).mapper;
+    }
+
+    /**
+     * 复制当前配置的ObjectMapper
+     *
+     * 每次调用复制一份（序列化器缓存为空）,修改副本不影响JsonUtil;调用方应自行持有副本,不要在热点路径上反复复制。
+     */
+    public static ObjectMapper copyObjectMapper() {
+        return standard.mapper.copy();
+    }
+
+    /**
+     * 复制指定配置档当前配置的ObjectMapper
+     */
+    public static ObjectMapper copyObjectMapper(Profile profile) {
+        return mappers(profile).mapper.copy();
+    }
+
+    /**
+     * 可复用的字节输出流（非线程安全,仅用于线程本地缓冲区）
+     */
+    private static final class ReusableByteArrayOutputStream extends OutputStream {
+
+        private byte[] buf = new byte[1024];
+
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count).asReadOnlyBuffer();
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+            }
+        }
+    }
+
+    /**
+     * 单个ObjectMapper及其按类型缓存的Reader/Writer
+     *
+     * Class类型的缓存使用ClassValue,缓存项挂在对应Class上,不会阻止其类加载器被回收;
+     * 泛型类型的缓存数量有上限。
+     */
+    private static final class Mappers {
+
+        private final ObjectMapper mapper;
+
+        /**
+         * 读写调用方的流时不关闭流
+         */
+        private final ObjectReader baseReader;
+        private final ObjectWriter baseWriter;
+
+        /**
+         * 格式化输出
+         */
+        private final ObjectWriter prettyWriter;
+
+        /**
+         * 按Class缓存的ObjectReader（已预取根反序列化器）
+         */
+        private final ClassValue<ObjectReader> classReaders = new ClassValue<>() {
+            @Override
+            protected ObjectReader computeValue(Class<?> type) {
+                return baseReader.forType(type);
+            }
+        };
+
+        /**
+         * 按泛型类型缓存的ObjectReader（最多 {@link #MAX_CACHED_GENERIC_READERS} 个）
+         */
+        private final Map<Type, ObjectReader> genericReaders = new ConcurrentHashMap<>();
+
+        /**
+         * 按Class缓存的ObjectWriter（已预取根序列化器）
+         */
+        private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+            @Override
+            protected ObjectWriter computeValue(Class<?> type) {
+                return baseWriter.forType(type);
+            }
+        };
+
+        Mappers(ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.baseReader = mapper.reader().without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            this.baseWriter = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        }
+
+        ObjectReader reader(Type type) {
+            if (type instanceof Class<?> clazz) {
+                return classReaders.get(clazz);
+            }
+            ObjectReader reader = genericReaders.get(type);
+            if (reader == null) {
+                reader = baseReader.forType(mapper.constructType(type));
+                if (genericReaders.size() < MAX_CACHED_GENERIC_READERS) {
+                    genericReaders.putIfAbsent(type, reader);
+                }
+            }
+            return reader;
+        }
+
+        ObjectWriter writer(Class<?> clazz) {
+            return writers.get(clazz);
+        }
+
+        ObjectWriter writerFor(Object obj) {
+            return obj == null ? baseWriter : writer(obj.getClass());
+        }
+    }
+
+    /**
+     * 加速配置创建（单独的类,未使用时不加载Blackbird）
+     */
+    private static final class Accelerator {
+
+        static Mappers create(ObjectMapper standard) {
+            return new Mappers(standard.copy().registerModule(new BlackbirdModule()));
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.hkd.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 手动时钟（测试用）
+ *
+ * 时间只在调用 {@link #setMillis} / {@link #advance} 时变化,用于确定性地测试过期判断、ID时间顺序、
+ * 时钟回拨等逻辑。withZone返回的时钟与原时钟共享同一时间。
+ * 注意: 注入IdGenerator后,同一毫秒序列号用尽时会等待时钟被推进。
+ *
+ * @author HKD Team
+ */
+public final class ManualClock extends Clock {
+
+    private final AtomicLong millis;
+
+    private final ZoneId zone;
+
+    public ManualClock(long millis) {
+        this(new AtomicLong(millis), ZoneOffset.UTC);
+    }
+
+    public ManualClock(Instant instant) {
+        this(instant.toEpochMilli());
+    }
+
+    private ManualClock(AtomicLong millis, ZoneId zone) {
+        this.millis = millis;
+        this.zone = zone;
+    }
+
+    /**
+     * 设置当前时间（可回拨）
+     */
+    public void setMillis(long millis) {
+        this.millis.set(millis);
+    }
+
+    /**
+     * 推进时间（负数表示回拨）
+     *
+     * @return 推进后的时间戳
+     */
+    public long advanceMillis(long delta) {
+        return millis.addAndGet(delta);
+    }
+
+    /**
+     * 推进时间（负数表示回拨）
+     *
+     * @return 推进后的时间戳
+     */
+    public long advance(Duration duration) {
+        return advanceMillis(duration.toMillis());
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis.get());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new ManualClock(millis, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "ManualClock[" + instant() + "," + zone + "]";
+    }
+}
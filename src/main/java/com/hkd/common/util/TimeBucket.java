@@ -0,0 +1,165 @@
+package com.hkd.common.util;
+
+import com.hkd.common.constant.Constants;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * K线时间分桶
+ *
+ * 把毫秒时间戳向下/向上取整到K线周期边界,全部为整数运算,不分配对象:
+ * - 分钟/小时周期按UTC纪元对齐
+ * - 日线按香港时间零点对齐,周线按香港时间周一零点对齐（{@link DateUtil#HONG_KONG_ZONE_ID}）
+ *
+ * 桶以起始时间戳标识,覆盖 [start, start + durationMillis)。
+ *
+ * @author HKD Team
+ */
+public enum TimeBucket {
+
+    MINUTE_1("1m", DateUtil.MILLIS_PER_MINUTE),
+
+    MINUTE_5("5m", 5 * DateUtil.MILLIS_PER_MINUTE),
+
+    MINUTE_15("15m", 15 * DateUtil.MILLIS_PER_MINUTE),
+
+    MINUTE_30("30m", 30 * DateUtil.MILLIS_PER_MINUTE),
+
+    HOUR_1("1h", DateUtil.MILLIS_PER_HOUR),
+
+    HOUR_4("4h", 4 * DateUtil.MILLIS_PER_HOUR),
+
+    DAY_1("1d", DateUtil.MILLIS_PER_DAY) {
+        @Override
+        public long floor(long timestamp) {
+            return DateUtil.startOfDayHongKong(timestamp);
+        }
+    },
+
+    WEEK_1("1w", 7 * DateUtil.MILLIS_PER_DAY) {
+        @Override
+        public long floor(long timestamp) {
+            long day = Math.floorDiv(DateUtil.toLocalMillis(timestamp, DateUtil.HONG_KONG_ZONE_ID), DateUtil.MILLIS_PER_DAY);
+            // 1970-01-01 为周四,换算为周一=0
+            long daysSinceMonday = Math.floorMod(day + 3, 7);
+            return DateUtil.startOfDayHongKong(timestamp - daysSinceMonday * DateUtil.MILLIS_PER_DAY);
+        }
+    };
+
+    /**
+     * K线缓存Key前缀
+     */
+    public static final String CACHE_KLINE_PREFIX = Constants.CACHE_MARKET_PREFIX + "kline:";
+
+    /**
+     * 周期代码（如 1m、1h、1d）
+     */
+    private final String code;
+
+    /**
+     * 周期长度（毫秒）
+     */
+    private final long durationMillis;
+
+    TimeBucket(String code, long durationMillis) {
+        this.code = code;
+        this.durationMillis = durationMillis;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public long durationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * 按周期代码查找
+     *
+     * @throws IllegalArgumentException 未知周期
+     */
+    public static TimeBucket of(String code) {
+        for (TimeBucket bucket : values()) {
+            if (bucket.code.equals(code)) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("Unknown time bucket: " + code);
+    }
+
+    /**
+     * 时间戳所在桶的起始时间（向下取整）
+     */
+    public long floor(long timestamp) {
+        return Math.floorDiv(timestamp, durationMillis) * durationMillis;
+    }
+
+    /**
+     * 不早于时间戳的最近桶边界（向上取整,已在边界上时返回自身）
+     */
+    public long ceil(long timestamp) {
+        long start = floor(timestamp);
+        return start == timestamp ? start : start + durationMillis;
+    }
+
+    /**
+     * 下一个桶的起始时间
+     */
+    public long next(long timestamp) {
+        return floor(timestamp) + durationMillis;
+    }
+
+    /**
+     * 时间戳是否落在以bucketStart开始的桶内
+     */
+    public boolean contains(long bucketStart, long timestamp) {
+        return timestamp >= bucketStart && timestamp < bucketStart + durationMillis;
+    }
+
+    /**
+     * 覆盖 [from, to) 的各个桶起始时间,按需逐个计算
+     */
+    public PrimitiveIterator.OfLong iterator(long from, long to) {
+        long first = floor(from);
+        return new PrimitiveIterator.OfLong() {
+
+            private long current = first;
+
+            @Override
+            public boolean hasNext() {
+                return current < to;
+            }
+
+            @Override
+            public long nextLong() {
+                if (current >= to) {
+                    throw new NoSuchElementException();
+                }
+                long start = current;
+                current = start + durationMillis;
+                return start;
+            }
+        };
+    }
+
+    /**
+     * 覆盖 [from, to) 的各个桶起始时间（惰性流）
+     */
+    public LongStream stream(long from, long to) {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator(from, to),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * K线缓存Key: hkd:market:kline:{symbol}:{code}:{bucketStart}
+     */
+    public String cacheKey(String symbol, long timestamp) {
+        return CACHE_KLINE_PREFIX + symbol + ':' + code + ':' + floor(timestamp);
+    }
+}
@@ -0,0 +1,39 @@
+package com.hkd.common.util;
+
+/**
+ * 机器ID分配器 (SPI)
+ *
+ * 以租约方式为 {@link IdGenerator} 分配集群内唯一的workerId:
+ * acquire获取租约,到期前由 {@link WorkerIdLeaseKeeper} 定期renew续约,停止时release释放。
+ *
+ * 单机部署可使用 {@link FileLockWorkerIdAllocator};Redis/ZooKeeper等共享存储的实现
+ * 通过 META-INF/services/com.hkd.common.util.WorkerIdAllocator 注册后,
+ * {@link IdGenerator#getInstance()} 会自动发现并使用。
+ *
+ * @author HKD Team
+ */
+public interface WorkerIdAllocator {
+
+    /**
+     * 获取一个空闲workerId的租约
+     *
+     * @param leaseMillis 租约时长（毫秒）
+     * @return 租约
+     * @throws IllegalStateException 没有可用的workerId
+     */
+    WorkerIdLease acquire(long leaseMillis);
+
+    /**
+     * 续约,成功时应通过 {@link WorkerIdLease#extendTo(long)} 更新到期时间
+     *
+     * @param lease       租约
+     * @param leaseMillis 续约时长（毫秒）
+     * @return 是否续约成功; false表示租约已丢失,workerId可能已被其他实例占用
+     */
+    boolean renew(WorkerIdLease lease, long leaseMillis);
+
+    /**
+     * 释放租约
+     */
+    void release(WorkerIdLease lease);
+}
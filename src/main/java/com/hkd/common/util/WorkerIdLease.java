@@ -0,0 +1,65 @@
+package com.hkd.common.util;
+
+import lombok.Getter;
+
+/**
+ * 机器ID租约
+ *
+ * @author HKD Team
+ */
+@Getter
+public class WorkerIdLease {
+
+    /**
+     * 机器ID
+     */
+    private final long workerId;
+
+    /**
+     * 持有者标识
+     */
+    private final String owner;
+
+    /**
+     * 到期时间（毫秒时间戳）
+     */
+    private volatile long expireAt;
+
+    /**
+     * 是否已失效（续约失败或已释放）
+     */
+    private volatile boolean revoked;
+
+    public WorkerIdLease(long workerId, String owner, long expireAt) {
+        this.workerId = workerId;
+        this.owner = owner;
+        this.expireAt = expireAt;
+    }
+
+    /**
+     * 续约成功后延长到期时间
+     */
+    public void extendTo(long expireAt) {
+        this.expireAt = expireAt;
+    }
+
+    /**
+     * 标记租约失效,持有该租约的IdGenerator将拒绝继续生成ID
+     */
+    public void revoke() {
+        this.revoked = true;
+    }
+
+    /**
+     * 是否已过期
+     */
+    public boolean isExpired(long now) {
+        return now >= expireAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkerIdLease{workerId=" + workerId + ", owner=" + owner
+                + ", expireAt=" + expireAt + ", revoked=" + revoked + "}";
+    }
+}
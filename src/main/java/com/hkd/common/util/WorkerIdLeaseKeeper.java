@@ -0,0 +1,81 @@
+package com.hkd.common.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 机器ID租约续约器
+ *
+ * 后台守护线程每 1/3 租约时长续约一次。续约返回false,或续约异常且租约已过期时,
+ * 标记租约失效,持有该租约的IdGenerator随即拒绝生成ID,避免与新持有者产生重复ID。
+ *
+ * @author HKD Team
+ */
+@Slf4j
+public class WorkerIdLeaseKeeper implements AutoCloseable {
+
+    private final WorkerIdAllocator allocator;
+
+    @Getter
+    private final WorkerIdLease lease;
+
+    private final long leaseMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    public WorkerIdLeaseKeeper(WorkerIdAllocator allocator, WorkerIdLease lease, long leaseMillis) {
+        if (leaseMillis < 3) {
+            throw new IllegalArgumentException("Lease millis must be at least 3");
+        }
+        this.allocator = allocator;
+        this.lease = lease;
+        this.leaseMillis = leaseMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "worker-id-lease-" + lease.getWorkerId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = leaseMillis / 3;
+        scheduler.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 续约
+     */
+    private void renew() {
+        if (lease.isRevoked()) {
+            return;
+        }
+        try {
+            if (!allocator.renew(lease, leaseMillis)) {
+                log.error("Worker ID lease lost: {}", lease);
+                lease.revoke();
+            }
+        } catch (Exception e) {
+            if (lease.isExpired(System.currentTimeMillis())) {
+                log.error("Worker ID lease expired after renewal failure: {}", lease, e);
+                lease.revoke();
+            } else {
+                log.warn("Failed to renew worker ID lease, will retry: {}", lease, e);
+            }
+        }
+    }
+
+    /**
+     * 停止续约并释放租约
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        lease.revoke();
+        try {
+            allocator.release(lease);
+        } catch (Exception e) {
+            log.warn("Failed to release worker ID lease: {}", lease, e);
+        }
+    }
+}
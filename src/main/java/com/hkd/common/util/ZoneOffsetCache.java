@@ -0,0 +1,101 @@
+package com.hkd.common.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 时区偏移缓存
+ *
+ * 缓存最近一次查询所在的 [上一次切换, 下一次切换) 区间及其偏移量,区间内的查询只是几次比较,不分配对象;
+ * 固定偏移时区（UTC、ZoneOffset）区间为整个时间轴。区间外的查询回到ZoneRules重新计算并替换缓存区间。
+ *
+ * @author HKD Team
+ */
+final class ZoneOffsetCache {
+
+    private static final ConcurrentHashMap<ZoneId, ZoneOffsetCache> CACHES = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+
+    private volatile Window window;
+
+    private ZoneOffsetCache(ZoneId zone) {
+        this.rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            this.window = new Window(Long.MIN_VALUE, Long.MAX_VALUE, offsetMillis(rules.getOffset(Instant.EPOCH)));
+        } else {
+            this.window = compute(0L);
+        }
+    }
+
+    /**
+     * 获取时区对应的缓存
+     */
+    static ZoneOffsetCache of(ZoneId zone) {
+        ZoneOffsetCache cache = CACHES.get(zone);
+        if (cache == null) {
+            cache = CACHES.computeIfAbsent(zone, ZoneOffsetCache::new);
+        }
+        return cache;
+    }
+
+    /**
+     * 获取包含指定时间戳的偏移区间
+     */
+    Window window(long timestamp) {
+        Window w = window;
+        if (w.contains(timestamp)) {
+            return w;
+        }
+        w = compute(timestamp);
+        window = w;
+        return w;
+    }
+
+    /**
+     * 指定时间戳的偏移量（毫秒）
+     */
+    long offsetMillis(long timestamp) {
+        return window(timestamp).offsetMillis;
+    }
+
+    private Window compute(long timestamp) {
+        Instant instant = Instant.ofEpochMilli(timestamp);
+        long offset = offsetMillis(rules.getOffset(instant));
+        ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochMilli(timestamp + 1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long start = previous == null ? Long.MIN_VALUE : Math.min(previous.toEpochSecond() * 1000L, timestamp);
+        long end = next == null ? Long.MAX_VALUE : Math.max(next.toEpochSecond() * 1000L, timestamp + 1);
+        return new Window(start, end, offset);
+    }
+
+    private static long offsetMillis(ZoneOffset offset) {
+        return offset.getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * 偏移量不变的区间 [startMillis, endMillis)
+     */
+    static final class Window {
+
+        final long startMillis;
+
+        final long endMillis;
+
+        final long offsetMillis;
+
+        Window(long startMillis, long endMillis, long offsetMillis) {
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.offsetMillis = offsetMillis;
+        }
+
+        boolean contains(long timestamp) {
+            return timestamp >= startMillis && timestamp < endMillis;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hkd.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DateUtil 毫秒时间戳当天起止与 ZoneOffsetCache 偏移量测试（对照 java.time）
+ *
+ * @author HKD Team
+ */
+class DateUtilDayBoundaryTest {
+
+    private static final long FROM = Instant.parse("1990-01-01T00:00:00Z").toEpochMilli();
+
+    private static final long TO = Instant.parse("2035-01-01T00:00:00Z").toEpochMilli();
+
+    /**
+     * 覆盖: 凌晨2点切换（纽约、伦敦）、零点切换（圣保罗、哈瓦那）、30分钟夏令时（豪勋爵岛）、
+     * 跳过整天（阿皮亚 2011-12-30）、无夏令时（香港、UTC）
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "America/New_York", "Europe/London", "America/Sao_Paulo", "America/Havana",
+            "Australia/Lord_Howe", "Pacific/Apia", "Asia/Hong_Kong", "UTC"
+    })
+    void dayBoundariesAroundTransitionsMatchJavaTime(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        ZoneRules rules = zone.getRules();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(FROM));
+        while (transition != null && transition.toEpochSecond() * 1000L < TO) {
+            long at = transition.toEpochSecond() * 1000L;
+            long[] probes = {
+                    at - DateUtil.MILLIS_PER_DAY, at - DateUtil.MILLIS_PER_HOUR - 1, at - 1, at, at + 1,
+                    at + DateUtil.MILLIS_PER_HOUR, at + DateUtil.MILLIS_PER_DAY
+            };
+            for (long timestamp : probes) {
+                assertDayBoundaries(timestamp, zone);
+                // 当天起止本身以及前后1毫秒
+                long start = DateUtil.startOfDay(timestamp, zone);
+                long end = DateUtil.endOfDay(timestamp, zone);
+                assertDayBoundaries(start - 1, zone);
+                assertDayBoundaries(start, zone);
+                assertDayBoundaries(end, zone);
+                assertDayBoundaries(end + 1, zone);
+            }
+            transition = rules.nextTransition(transition.getInstant());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "America/New_York", "Europe/London", "America/Sao_Paulo", "Pacific/Apia", "Asia/Hong_Kong", "+05:30"
+    })
+    void randomTimestampsMatchJavaTime(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        Random random = new Random(zoneId.hashCode());
+        for (int i = 0; i < 20_000; i++) {
+            long timestamp = FROM + (long) (random.nextDouble() * (TO - FROM));
+            assertDayBoundaries(timestamp, zone);
+        }
+    }
+
+    @Test
+    void hongKongAndUtcShortcutsMatchJavaTime() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 20_000; i++) {
+            long timestamp = FROM + (long) (random.nextDouble() * (TO - FROM));
+            assertEquals(expectedStart(timestamp, DateUtil.HONG_KONG_ZONE_ID), DateUtil.startOfDayHongKong(timestamp));
+            assertEquals(expectedEnd(timestamp, DateUtil.HONG_KONG_ZONE_ID), DateUtil.endOfDayHongKong(timestamp));
+            assertEquals(expectedStart(timestamp, DateUtil.UTC_ZONE_ID), DateUtil.startOfDayUtc(timestamp));
+            assertEquals(expectedEnd(timestamp, DateUtil.UTC_ZONE_ID), DateUtil.endOfDayUtc(timestamp));
+        }
+    }
+
+    @Test
+    void apiaSkippedDayStartsAtNextDay() {
+        ZoneId apia = ZoneId.of("Pacific/Apia");
+        // 2011-12-29 23:59:59.999 -10:00 之后直接是 2011-12-31 00:00 +14:00
+        long lastOfDec29 = Instant.parse("2011-12-30T09:59:59.999Z").toEpochMilli();
+        assertEquals(lastOfDec29, DateUtil.endOfDay(lastOfDec29, apia));
+        assertEquals(lastOfDec29 + 1, DateUtil.startOfDay(lastOfDec29 + 1, apia));
+        assertEquals(LocalDate.of(2011, 12, 31).atStartOfDay(apia).toInstant().toEpochMilli(),
+                DateUtil.startOfDay(lastOfDec29 + 1, apia));
+    }
+
+    private static void assertDayBoundaries(long timestamp, ZoneId zone) {
+        String message = zone + " @ " + Instant.ofEpochMilli(timestamp);
+        assertEquals(expectedStart(timestamp, zone), DateUtil.startOfDay(timestamp, zone), message);
+        assertEquals(expectedEnd(timestamp, zone), DateUtil.endOfDay(timestamp, zone), message);
+        long expectedOffset = zone.getRules().getOffset(Instant.ofEpochMilli(timestamp)).getTotalSeconds() * 1000L;
+        assertEquals(expectedOffset, ZoneOffsetCache.of(zone).offsetMillis(timestamp), message);
+        assertEquals(expectedOffset, DateUtil.offsetMillis(timestamp, zone), message);
+    }
+
+    private static long expectedStart(long timestamp, ZoneId zone) {
+        return localDate(timestamp, zone).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private static long expectedEnd(long timestamp, ZoneId zone) {
+        return localDate(timestamp, zone).plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+    }
+
+    private static LocalDate localDate(long timestamp, ZoneId zone) {
+        return Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+    }
+}
@@ -0,0 +1,84 @@
+package com.hkd.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileLockWorkerIdAllocator 进程内与跨进程互斥测试
+ *
+ * @author HKD Team
+ */
+class FileLockWorkerIdAllocatorTest {
+
+    private static final long LEASE_MILLIS = 30_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void allocatorsInSameProcessShareHeldLocks() {
+        FileLockWorkerIdAllocator first = new FileLockWorkerIdAllocator(directory);
+        FileLockWorkerIdAllocator second = new FileLockWorkerIdAllocator(directory.resolve(".").resolve("..")
+                .resolve(directory.getFileName()));
+
+        WorkerIdLease a = first.acquire(LEASE_MILLIS);
+        WorkerIdLease b = second.acquire(LEASE_MILLIS);
+        WorkerIdLease c = first.acquire(LEASE_MILLIS);
+
+        assertEquals(Set.of(0L, 1L, 2L), Set.of(a.getWorkerId(), b.getWorkerId(), c.getWorkerId()));
+        // 第二个分配器没有打开并关闭已持有的锁文件,原有文件锁仍然有效
+        assertTrue(first.renew(a, LEASE_MILLIS));
+        assertTrue(second.renew(b, LEASE_MILLIS));
+
+        first.release(a);
+        assertEquals(0L, second.acquire(LEASE_MILLIS).getWorkerId());
+    }
+
+    @Test
+    void childProcessDoesNotGetWorkerIdHeldByThisProcess() throws Exception {
+        FileLockWorkerIdAllocator first = new FileLockWorkerIdAllocator(directory);
+        FileLockWorkerIdAllocator second = new FileLockWorkerIdAllocator(directory);
+        long a = first.acquire(LEASE_MILLIS).getWorkerId();
+        long b = second.acquire(LEASE_MILLIS).getWorkerId();
+        long c = first.acquire(LEASE_MILLIS).getWorkerId();
+
+        long child = acquireInChildProcess();
+
+        assertEquals(3, Set.of(a, b, c).size());
+        assertFalse(Set.of(a, b, c).contains(child), "child process got a worker ID held by this process: " + child);
+    }
+
+    private long acquireInChildProcess() throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ChildAllocator.class.getName(), directory.toString())
+                .redirectErrorStream(false)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS), "child process timed out");
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(0, process.exitValue(), output);
+        String[] lines = output.trim().split("\\R");
+        return Long.parseLong(lines[lines.length - 1].trim());
+    }
+
+    /**
+     * 子进程: 从同一目录分配一个workerId并输出
+     */
+    public static final class ChildAllocator {
+
+        public static void main(String[] args) {
+            WorkerIdLease lease = new FileLockWorkerIdAllocator(Paths.get(args[0])).acquire(LEASE_MILLIS);
+            System.out.println(lease.getWorkerId());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.hkd.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FixedDateTimeFormat 与 DateTimeFormatter 一致性测试
+ *
+ * @author HKD Team
+ */
+class FixedDateTimeFormatTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private static final ZoneId[] ZONES = {
+            DateUtil.UTC_ZONE_ID,
+            DateUtil.HONG_KONG_ZONE_ID,
+            ZoneId.of("America/New_York"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("+05:30")
+    };
+
+    private static final String[] MALFORMED = {
+            "",
+            "2024-01-01",
+            "2024-01-01 00:00",
+            "2024-01-01T00:00:00",
+            "2024/01/01 00:00:00",
+            "2024-1-01 00:00:00",
+            "2024-01-01 00:00:0x",
+            "abcd-01-01 00:00:00",
+            "2024-13-01 00:00:00",
+            "2024-00-01 00:00:00",
+            "2024-01-32 00:00:00",
+            "2024-02-30 00:00:00",
+            "2023-02-29 00:00:00",
+            "2024-04-31 00:00:00",
+            "2024-01-01 24:00:00",
+            "2024-01-01 00:60:00",
+            "2024-01-01 00:00:60",
+            "0000-01-01 00:00:00",
+            "20240101000000",
+            "20241301000000",
+            "20240230000000",
+            "2024010124000",
+            "00:00:00",
+            "25:00:00",
+            " 2024-01-01 00:00:00",
+            "2024-01-01 00:00:00 "
+    };
+
+    private static LocalDateTime randomDateTime(Random random) {
+        int year = 1 + random.nextInt(9999);
+        int month = 1 + random.nextInt(12);
+        int day = 1 + random.nextInt(LocalDateTime.of(year, month, 1, 0, 0).toLocalDate().lengthOfMonth());
+        return LocalDateTime.of(year, month, day,
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FixedDateTimeFormat.class)
+    void formatMatchesDateTimeFormatter(FixedDateTimeFormat format) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format.pattern());
+        Random random = new Random(format.ordinal());
+        byte[] bytes = new byte[format.width() + 3];
+        char[] chars = new char[format.width() + 3];
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDateTime dateTime = randomDateTime(random);
+            String expected = formatter.format(dateTime);
+
+            assertEquals(expected, format.format(dateTime));
+
+            assertEquals(format.width() + 3, format.format(dateTime, bytes, 3));
+            assertEquals(expected, new String(bytes, 3, format.width(), StandardCharsets.US_ASCII));
+
+            assertEquals(format.width() + 3, format.format(dateTime, chars, 3));
+            assertEquals(expected, new String(chars, 3, format.width()));
+
+            builder.setLength(0);
+            builder.append("id=");
+            assertEquals("id=" + expected, format.format(dateTime, builder).toString());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FixedDateTimeFormat.class, names = {"DATETIME", "DATETIME_COMPACT"})
+    void parseMatchesDateTimeFormatter(FixedDateTimeFormat format) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format.pattern());
+        Random random = new Random(format.ordinal());
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String text = formatter.format(randomDateTime(random));
+            LocalDateTime expected = LocalDateTime.parse(text, formatter);
+
+            assertEquals(expected, format.parse(text));
+            assertEquals(expected, format.parse(("  " + text).getBytes(StandardCharsets.US_ASCII), 2));
+
+            ZoneId zone = ZONES[i % ZONES.length];
+            long expectedMillis = expected.atZone(zone).toInstant().toEpochMilli();
+            assertEquals(expectedMillis, format.parseEpochMillis(text, zone));
+            assertEquals(expectedMillis, format.parseEpochMillis(text.getBytes(StandardCharsets.US_ASCII), 0, zone));
+        }
+    }
+
+    /**
+     * 夏令时缺口与重叠时段的本地时间,与 LocalDateTime.atZone 的解释一致
+     */
+    @Test
+    void parseEpochMillisAroundDaylightSavingTransitions() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneId london = ZoneId.of("Europe/London");
+        assertParseEpochMillis("2024-03-10 02:30:00", newYork);
+        assertParseEpochMillis("2024-11-03 01:30:00", newYork);
+        assertParseEpochMillis("2024-03-31 01:30:00", london);
+        assertParseEpochMillis("2024-10-27 01:30:00", london);
+    }
+
+    private static void assertParseEpochMillis(String text, ZoneId zone) {
+        long expected = LocalDateTime.parse(text, DateUtil.DATETIME_FORMATTER).atZone(zone).toInstant().toEpochMilli();
+        assertEquals(expected, FixedDateTimeFormat.DATETIME.parseEpochMillis(text, zone), text + " " + zone);
+    }
+
+    @ParameterizedTest
+    @EnumSource(FixedDateTimeFormat.class)
+    void malformedInputBehavesLikeDateTimeFormatter(FixedDateTimeFormat format) {
+        for (String text : MALFORMED) {
+            assertSameOutcome(format, text);
+        }
+    }
+
+    /**
+     * 随机替换数字位（产生越界的月、日、时、分、秒）后与DateTimeFormatter结果一致
+     */
+    @ParameterizedTest
+    @EnumSource(value = FixedDateTimeFormat.class, names = {"DATETIME", "DATETIME_COMPACT"})
+    void mutatedDigitsBehaveLikeDateTimeFormatter(FixedDateTimeFormat format) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format.pattern());
+        Random random = new Random(31L + format.ordinal());
+
+        for (int i = 0; i < SAMPLES; i++) {
+            char[] text = formatter.format(randomDateTime(random)).toCharArray();
+            int pos = random.nextInt(text.length);
+            if (Character.isDigit(text[pos])) {
+                text[pos] = (char) ('0' + random.nextInt(10));
+            } else {
+                text[pos] = random.nextBoolean() ? 'x' : '0';
+            }
+            assertSameOutcome(format, new String(text));
+        }
+    }
+
+    /**
+     * byte[]重载只读取 {@link FixedDateTimeFormat#width()} 个字节,按截取后的文本比较
+     */
+    private static void assertSameOutcome(FixedDateTimeFormat format, String text) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format.pattern());
+        LocalDateTime expected = parseOrNull(text, formatter);
+        if (expected == null) {
+            assertThrows(DateTimeParseException.class, () -> format.parse(text), text);
+            assertThrows(DateTimeParseException.class,
+                    () -> format.parseEpochMillis(text, DateUtil.UTC_ZONE_ID), text);
+        } else {
+            assertEquals(expected, format.parse(text), text);
+            assertEquals(expected.atZone(DateUtil.UTC_ZONE_ID).toInstant().toEpochMilli(),
+                    format.parseEpochMillis(text, DateUtil.UTC_ZONE_ID), text);
+        }
+
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        LocalDateTime expectedFromBytes = parseOrNull(text.substring(0, Math.min(text.length(), format.width())), formatter);
+        if (expectedFromBytes == null) {
+            assertThrows(DateTimeParseException.class, () -> format.parse(bytes, 0), text);
+        } else {
+            assertEquals(expectedFromBytes, format.parse(bytes, 0), text);
+        }
+    }
+
+    private static LocalDateTime parseOrNull(String text, DateTimeFormatter formatter) {
+        try {
+            return LocalDateTime.parse(text, formatter);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Test
+    void yearOutsideFixedWidthIsRejected() {
+        LocalDateTime tooLate = LocalDateTime.of(10_000, 1, 1, 0, 0);
+        LocalDateTime tooEarly = LocalDateTime.of(0, 1, 1, 0, 0);
+        assertFalse(FixedDateTimeFormat.supports(tooLate));
+        assertFalse(FixedDateTimeFormat.supports(tooEarly));
+        assertThrows(DateTimeException.class, () -> FixedDateTimeFormat.DATETIME.format(tooLate));
+        assertThrows(DateTimeException.class, () -> FixedDateTimeFormat.DATE.format(tooEarly));
+    }
+
+    @Test
+    void ofFindsFormatByPattern() {
+        for (FixedDateTimeFormat format : FixedDateTimeFormat.values()) {
+            assertSame(format, FixedDateTimeFormat.of(format.pattern()));
+            assertEquals(format.pattern().length(), format.width());
+        }
+        assertNull(FixedDateTimeFormat.of("yyyy/MM/dd"));
+    }
+}
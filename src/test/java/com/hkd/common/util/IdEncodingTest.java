@@ -0,0 +1,76 @@
+package com.hkd.common.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdEncoding 编码输出一致性与解码失败时的缓冲区状态测试
+ *
+ * @author HKD Team
+ */
+class IdEncodingTest {
+
+    @ParameterizedTest
+    @EnumSource(IdEncoding.class)
+    void allOutputsMatchAndRoundTrip(IdEncoding encoding) {
+        Random random = new Random(encoding.ordinal());
+        long[] samples = new long[10_000];
+        samples[0] = 0L;
+        samples[1] = -1L;
+        samples[2] = Long.MAX_VALUE;
+        samples[3] = Long.MIN_VALUE;
+        for (int i = 4; i < samples.length; i++) {
+            samples[i] = random.nextLong();
+        }
+
+        ByteBuffer heap = ByteBuffer.allocate(encoding.width() + 2);
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoding.width() + 2);
+        for (long id : samples) {
+            String expected = encoding.encode(id);
+            assertEquals(encoding.width(), expected.length());
+
+            byte[] bytes = new byte[encoding.width() + 1];
+            assertEquals(encoding.width() + 1, encoding.encode(id, bytes, 1));
+            assertEquals(expected, new String(bytes, 1, encoding.width(), StandardCharsets.US_ASCII));
+
+            assertEquals("x" + expected, encoding.encode(id, new StringBuilder("x")).toString());
+
+            for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+                buffer.clear().position(2);
+                encoding.encode(id, buffer);
+                assertEquals(encoding.width() + 2, buffer.position());
+                buffer.flip().position(2);
+                assertEquals(id, encoding.decode(buffer));
+                assertFalse(buffer.hasRemaining());
+            }
+
+            assertEquals(id, encoding.decode(expected));
+            assertEquals(id, encoding.decode(bytes, 1));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdEncoding.class)
+    void failedDecodeLeavesBufferPositionUnchanged(IdEncoding encoding) {
+        String valid = encoding.encode(123_456_789L);
+        // 末位非法字符
+        String badDigit = valid.substring(0, valid.length() - 1) + "!";
+        // 首位超出64位
+        String overflow = "z" + valid.substring(1);
+
+        for (String text : new String[]{badDigit, overflow}) {
+            for (ByteBuffer buffer : new ByteBuffer[]{
+                    ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)),
+                    ByteBuffer.allocateDirect(text.length()).put(text.getBytes(StandardCharsets.US_ASCII)).flip()}) {
+                assertThrows(IllegalArgumentException.class, () -> encoding.decode(buffer), text);
+                assertEquals(0, buffer.position(), text);
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.hkd.common.util;
+
+import com.hkd.common.util.IdGenerator.ClockBackwardsPolicy;
+import com.hkd.common.util.IdGenerator.Mode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdGenerator 时钟回拨策略测试（ManualClock 控制时钟）
+ *
+ * @author HKD Team
+ */
+class IdGeneratorClockBackwardsTest {
+
+    private static final long T = 1_750_000_000_000L;
+
+    private static final long MAX_BACKWARDS_MILLIS = 100L;
+
+    private final ManualClock clock = new ManualClock(T);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private IdGenerator generator(Mode mode, ClockBackwardsPolicy policy) {
+        IdGenerator.Builder builder = IdGenerator.builder()
+                .workerId(1L)
+                .mode(mode)
+                .clockBackwardsPolicy(policy)
+                .maxBackwardsMillis(MAX_BACKWARDS_MILLIS)
+                .clock(clock);
+        if (policy == ClockBackwardsPolicy.BACKUP_WORKER) {
+            builder.backupWorkerId(2L);
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void rejectThrowsUntilClockCatchesUp(Mode mode) {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.REJECT);
+        long first = generator.nextId();
+
+        clock.setMillis(T - 1);
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertThrows(IllegalStateException.class, () -> generator.nextIds(10));
+        // 同一次回拨期间的多次拒绝只计一次
+        assertEquals(1, generator.getClockBackwardsCount());
+
+        clock.setMillis(T);
+        long next = generator.nextId();
+        assertTrue(next > first);
+        assertEquals(T, IdGenerator.parseTimestamp(next));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void logicalClockKeepsLastTimestamp(Mode mode) {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.LOGICAL_CLOCK);
+        long first = generator.nextId();
+
+        clock.setMillis(T - 10);
+        long second = generator.nextId();
+        long third = generator.nextId();
+
+        assertEquals(T, IdGenerator.parseTimestamp(second));
+        assertEquals(T, IdGenerator.parseTimestamp(third));
+        assertEquals(1L, IdGenerator.parseWorkerId(second));
+        assertTrue(first < second && second < third);
+        assertEquals(1, generator.getClockBackwardsCount());
+    }
+
+    /**
+     * 回拨期间序列号用尽时逻辑时钟前进1毫秒,不等待物理时钟
+     * （THREAD_LOCAL模式下线程槽位用尽改从共享槽预占,不经过逻辑时钟借用,不在此覆盖）
+     */
+    @ParameterizedTest
+    @EnumSource(value = Mode.class, names = {"SYNCHRONIZED", "LOCK_FREE"})
+    void logicalClockBorrowsNextMillisWhenSequenceExhausted(Mode mode) {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.LOGICAL_CLOCK);
+        generator.nextId();
+
+        clock.setMillis(T - 10);
+        long[] ids = generator.nextIds(3 * 4096);
+
+        Set<Long> unique = new HashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            assertTrue(unique.add(ids[i]), "duplicate id");
+            if (i > 0) {
+                assertTrue(ids[i] > ids[i - 1], "ids must be increasing");
+            }
+        }
+        assertEquals(T + 3, IdGenerator.parseTimestamp(ids[ids.length - 1]));
+        assertTrue(generator.getSequenceOverflowCount() >= 3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void parkWaitsForClockToCatchUp(Mode mode) throws Exception {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.PARK);
+        // 单线程执行器: THREAD_LOCAL模式下两次生成使用同一线程槽位
+        long first = executor.submit(generator::nextId).get(5, TimeUnit.SECONDS);
+
+        clock.setMillis(T - 5);
+        Future<Long> parked = executor.submit(generator::nextId);
+        Thread.sleep(50);
+        assertFalse(parked.isDone(), "generator must park while the clock is behind");
+
+        clock.setMillis(T + 1);
+        long next = parked.get(5, TimeUnit.SECONDS);
+        assertEquals(T + 1, IdGenerator.parseTimestamp(next));
+        assertTrue(next > first);
+        assertEquals(1, generator.getClockBackwardsCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void backupWorkerUsedWhileClockIsBehind(Mode mode) {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.BACKUP_WORKER);
+        long first = generator.nextId();
+        assertEquals(1L, IdGenerator.parseWorkerId(first));
+
+        clock.setMillis(T - 10);
+        long backup = generator.nextId();
+        long[] backupBatch = generator.nextIds(5);
+        assertEquals(2L, IdGenerator.parseWorkerId(backup));
+        assertEquals(T - 10, IdGenerator.parseTimestamp(backup));
+        for (long id : backupBatch) {
+            assertEquals(2L, IdGenerator.parseWorkerId(id));
+        }
+
+        clock.setMillis(T + 1);
+        long recovered = generator.nextId();
+        assertEquals(1L, IdGenerator.parseWorkerId(recovered));
+        assertEquals(T + 1, IdGenerator.parseTimestamp(recovered));
+
+        Set<Long> unique = new HashSet<>();
+        unique.add(first);
+        unique.add(backup);
+        unique.add(recovered);
+        for (long id : backupBatch) {
+            unique.add(id);
+        }
+        assertEquals(3 + backupBatch.length, unique.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void clockBackwardsCountedOncePerRegression(Mode mode) {
+        IdGenerator generator = generator(mode, ClockBackwardsPolicy.LOGICAL_CLOCK);
+        generator.nextId();
+
+        clock.setMillis(T - 10);
+        for (int i = 0; i < 100; i++) {
+            generator.nextId();
+        }
+        assertEquals(1, generator.getClockBackwardsCount());
+
+        // 时钟追上后再次回拨,计为新的一次
+        clock.setMillis(T + 1);
+        generator.nextId();
+        clock.setMillis(T - 5);
+        generator.nextId();
+        generator.nextId();
+        assertEquals(2, generator.getClockBackwardsCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClockBackwardsPolicy.class)
+    void regressionBeyondMaxBackwardsAlwaysThrows(ClockBackwardsPolicy policy) {
+        IdGenerator generator = generator(Mode.SYNCHRONIZED, policy);
+        generator.nextId();
+
+        clock.setMillis(T - MAX_BACKWARDS_MILLIS - 1);
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertEquals(1, generator.getClockBackwardsCount());
+    }
+
+    @Test
+    void regressionWithinMaxBackwardsIsTolerated() {
+        IdGenerator generator = generator(Mode.LOCK_FREE, ClockBackwardsPolicy.LOGICAL_CLOCK);
+        long first = generator.nextId();
+
+        clock.setMillis(T - MAX_BACKWARDS_MILLIS);
+        long next = generator.nextId();
+        assertTrue(next > first);
+        assertEquals(T, IdGenerator.parseTimestamp(next));
+    }
+}
@@ -0,0 +1,171 @@
+package com.hkd.common.util;
+
+import com.hkd.common.util.IdGenerator.Mode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdGenerator 并发唯一性与批量生成跨毫秒测试
+ *
+ * @author HKD Team
+ */
+class IdGeneratorConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    private static final int IDS_PER_THREAD = 50_000;
+
+    private static final int SEQUENCES_PER_MILLI = 4096;
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void concurrentIdsAreUnique(Mode mode) throws Exception {
+        IdGenerator generator = new IdGenerator(7L, mode);
+        long[][] perThread = generate(generator, THREADS, false);
+
+        for (long[] ids : perThread) {
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(7L, IdGenerator.parseWorkerId(ids[i]));
+                // THREAD_LOCAL模式同一毫秒内线程槽位与共享槽交替,单线程内不保证递增
+                if (mode != Mode.THREAD_LOCAL && i > 0) {
+                    assertTrue(ids[i] > ids[i - 1], "ids of one thread must be increasing");
+                }
+            }
+        }
+        assertAllUnique(perThread);
+    }
+
+    @Test
+    void threadLocalWithMoreThreadsThanSlotsIsUnique() throws Exception {
+        // 3个线程槽位,其余线程退回共享槽
+        IdGenerator generator = IdGenerator.builder()
+                .workerId(7L)
+                .mode(Mode.THREAD_LOCAL)
+                .threadSlotBits(2)
+                .build();
+        assertAllUnique(generate(generator, THREADS, true));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void concurrentBatchesAreUnique(Mode mode) throws Exception {
+        IdGenerator generator = new IdGenerator(7L, mode);
+        assertAllUnique(generate(generator, THREADS, true));
+    }
+
+    /**
+     * 批量数量超过单毫秒序列号时顺延到下一毫秒: 同一毫秒内序列号连续,新毫秒从0开始
+     */
+    @ParameterizedTest
+    @EnumSource(value = Mode.class, names = {"SYNCHRONIZED", "LOCK_FREE"})
+    void nextIdsRollsOverIntoNextMillis(Mode mode) {
+        IdGenerator generator = new IdGenerator(7L, mode);
+        long[] ids = generator.nextIds(3 * SEQUENCES_PER_MILLI + 100);
+
+        int millis = 1;
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1], "ids must be increasing");
+            long sequence = IdGenerator.parseSequence(ids[i]);
+            if (IdGenerator.parseTimestamp(ids[i]) == IdGenerator.parseTimestamp(ids[i - 1])) {
+                assertEquals(IdGenerator.parseSequence(ids[i - 1]) + 1, sequence);
+            } else {
+                assertTrue(IdGenerator.parseTimestamp(ids[i]) > IdGenerator.parseTimestamp(ids[i - 1]));
+                assertEquals(0L, sequence);
+                millis++;
+            }
+        }
+        assertTrue(millis >= 4, "batch must span at least 4 milliseconds, got " + millis);
+    }
+
+    @Test
+    void threadLocalBatchSpillsToSharedSlotWithoutParking() {
+        ManualClock clock = new ManualClock(1_750_000_000_000L);
+        IdGenerator generator = IdGenerator.builder()
+                .workerId(7L)
+                .mode(Mode.THREAD_LOCAL)
+                .clock(clock)
+                .build();
+
+        // 默认4位槽位: 线程槽位256个 + 共享槽256个,时钟停住也不挂起
+        long[] ids = generator.nextIds(512);
+
+        long[] sequences = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(clock.millis(), IdGenerator.parseTimestamp(ids[i]));
+            sequences[i] = IdGenerator.parseSequence(ids[i]);
+        }
+        Arrays.sort(sequences);
+        for (int i = 0; i < sequences.length; i++) {
+            assertEquals(i, sequences[i]);
+        }
+        assertEquals(0, generator.getSequenceOverflowCount());
+
+        clock.advanceMillis(1);
+        long next = generator.nextId();
+        assertEquals(clock.millis(), IdGenerator.parseTimestamp(next));
+    }
+
+    @Test
+    void threadLocalBatchRollsOverIntoNextMillis() {
+        IdGenerator generator = new IdGenerator(7L, Mode.THREAD_LOCAL);
+        long[][] ids = {generator.nextIds(3 * SEQUENCES_PER_MILLI)};
+        assertAllUnique(ids);
+        assertTrue(IdGenerator.parseTimestamp(ids[0][ids[0].length - 1]) > IdGenerator.parseTimestamp(ids[0][0]));
+    }
+
+    /**
+     * 多个线程同时开始生成,返回每个线程生成的ID
+     */
+    private static long[][] generate(IdGenerator generator, int threads, boolean batch) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[IDS_PER_THREAD];
+                    start.await();
+                    if (batch) {
+                        long[] chunk = new long[100];
+                        for (int i = 0; i < ids.length; i += chunk.length) {
+                            generator.nextIds(chunk);
+                            System.arraycopy(chunk, 0, ids, i, chunk.length);
+                        }
+                    } else {
+                        for (int i = 0; i < ids.length; i++) {
+                            ids[i] = generator.nextId();
+                        }
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            long[][] result = new long[threads][];
+            for (int t = 0; t < threads; t++) {
+                result[t] = futures.get(t).get(60, TimeUnit.SECONDS);
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertAllUnique(long[][] perThread) {
+        long[] all = Arrays.stream(perThread).flatMapToLong(Arrays::stream).sorted().toArray();
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate id: " + all[i]);
+        }
+    }
+}